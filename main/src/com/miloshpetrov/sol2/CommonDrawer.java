@@ -79,6 +79,11 @@ public class CommonDrawer {
     mySpriteBatch.draw(tr, x - origX, y - origY, origX, origY, width, height, 1, 1, rot);
   }
 
+  public void draw(Texture texture, TextureAtlas.AtlasRegion tex, float[] vertices, int count) {
+    myTextureChecker.onSprite(texture, tex);
+    mySpriteBatch.draw(texture, vertices, 0, count);
+  }
+
   private void setTint(Color tint) {
     mySpriteBatch.setColor(tint);
   }
@@ -3,39 +3,91 @@ package com.miloshpetrov.sol2;
 import com.badlogic.gdx.files.FileHandle;
 import com.miloshpetrov.sol2.files.FileManager;
 
+import java.io.*;
 import java.util.*;
 
 public class IniReader {
+  private static final int BUF_SZ = 4096;
 
   private final HashMap<String,String> myVals;
 
   public IniReader(String fileName, SolFileReader reader, boolean readOnly) {
     myVals = new HashMap<String, String>();
-    List<String> lines = reader != null ? reader.read(fileName) : fileToLines(fileName, readOnly);
-
-    for (String line : lines) {
-      int commentStart = line.indexOf('#');
-      if (commentStart >= 0) {
-        line = line.substring(0, commentStart);
+    if (reader != null) {
+      for (String line : reader.read(fileName)) {
+        parseLine(line.toCharArray(), line.length(), myVals);
       }
-      String[] sides = line.split("=");
-      if (sides.length < 2) continue;
-      String key = sides[0].trim();
-      String val = sides[1].trim();
-      myVals.put(key, val);
+      return;
     }
-  }
-
-  private List<String> fileToLines(String fileName, boolean readOnly) {
     FileManager.FileLocation accessType = readOnly ? FileManager.FileLocation.STATIC_FILES : FileManager.FileLocation.DYNAMIC_FILES;
     FileHandle fh = FileManager.getInstance().getFile(fileName, accessType);
+    if (!fh.exists()) return;
+    Reader r = fh.reader(BUF_SZ, "UTF-8");
+    try {
+      parse(r, myVals);
+    } catch (IOException e) {
+      throw new AssertionError("could not read " + fileName + ": " + e);
+    } finally {
+      try {
+        r.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
 
-    ArrayList<String> res = new ArrayList<String>();
-    if (!fh.exists()) return res;
-    for (String s : fh.readString().split("\n")) {
-      res.add(s);
+  /**
+   * reads the stream line by line into one reused buffer, no intermediate strings except the keys and values
+   */
+  private static void parse(Reader r, Map<String, String> vals) throws IOException {
+    char[] buf = new char[BUF_SZ];
+    char[] line = new char[128];
+    int lineLen = 0;
+    int read;
+    while ((read = r.read(buf)) > 0) {
+      for (int i = 0; i < read; i++) {
+        char c = buf[i];
+        if (c == '\n') {
+          parseLine(line, lineLen, vals);
+          lineLen = 0;
+          continue;
+        }
+        if (lineLen == line.length) line = Arrays.copyOf(line, lineLen * 2);
+        line[lineLen++] = c;
+      }
+    }
+    parseLine(line, lineLen, vals);
+  }
+
+  /**
+   * key=value, everything after '#' is a comment. The value ends at the next '='
+   */
+  private static void parseLine(char[] line, int len, Map<String, String> vals) {
+    int eq = -1;
+    int valEnd = len;
+    for (int i = 0; i < len; i++) {
+      char c = line[i];
+      if (c == '#') {
+        valEnd = i;
+        break;
+      }
+      if (c == '=') {
+        if (eq >= 0) {
+          valEnd = i;
+          break;
+        }
+        eq = i;
+      }
     }
-    return res;
+    if (eq < 0 || eq + 1 == valEnd) return;
+    String key = trimmed(line, 0, eq);
+    String val = trimmed(line, eq + 1, valEnd);
+    vals.put(key, val);
+  }
+
+  private static String trimmed(char[] line, int start, int end) {
+    while (start < end && line[start] <= ' ') start++;
+    while (start < end && line[end - 1] <= ' ') end--;
+    return new String(line, start, end - start);
   }
 
   public String s(String key, String def) {
@@ -58,17 +110,71 @@ public class IniReader {
     return st == null ? def : Float.parseFloat(st);
   }
 
+  /**
+   * Updates the given keys in the file. Keys which are already in the file keep their line, other lines and
+   * comments are preserved, new keys are appended.
+   */
   public static void write(String fileName, Object ... keysVals) {
-    boolean second = false;
-    StringBuilder sb = new StringBuilder();
-    for (Object o : keysVals) {
-      String s = o.toString();
-      sb.append(s);
-      sb.append(second ? '\n' : '=');
-      second = !second;
+    LinkedHashMap<String, String> toWrite = new LinkedHashMap<String, String>();
+    for (int i = 0; i + 1 < keysVals.length; i += 2) {
+      toWrite.put(keysVals[i].toString(), keysVals[i + 1].toString());
     }
     FileHandle file = FileManager.getInstance().getDynamicFile(fileName);
-    file.writeString(sb.toString(), false);
+    ArrayList<String> lines = new ArrayList<String>();
+    if (file.exists()) {
+      BufferedReader r = file.reader(BUF_SZ, "UTF-8");
+      try {
+        String line;
+        while ((line = r.readLine()) != null) {
+          lines.add(line);
+        }
+      } catch (IOException e) {
+        throw new AssertionError("could not read " + fileName + ": " + e);
+      } finally {
+        try {
+          r.close();
+        } catch (IOException ignored) {
+        }
+      }
+    }
+
+    Writer w = new BufferedWriter(file.writer(false, "UTF-8"), BUF_SZ);
+    try {
+      for (int i = 0, sz = lines.size(); i < sz; i++) {
+        String line = lines.get(i);
+        String key = lineKey(line);
+        String val = key == null ? null : toWrite.remove(key);
+        if (val == null) {
+          w.write(line);
+        } else {
+          w.write(key);
+          w.write('=');
+          w.write(val);
+        }
+        w.write('\n');
+      }
+      for (Map.Entry<String, String> e : toWrite.entrySet()) {
+        w.write(e.getKey());
+        w.write('=');
+        w.write(e.getValue());
+        w.write('\n');
+      }
+    } catch (IOException e) {
+      throw new AssertionError("could not write " + fileName + ": " + e);
+    } finally {
+      try {
+        w.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
+  private static String lineKey(String line) {
+    int eq = line.indexOf('=');
+    if (eq < 0) return null;
+    int comment = line.indexOf('#');
+    if (comment >= 0 && comment < eq) return null;
+    return line.substring(0, eq).trim();
   }
 
 }
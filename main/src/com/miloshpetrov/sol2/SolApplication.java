@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.physics.box2d.Box2D;
 import com.miloshpetrov.sol2.common.SolColor;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.game.*;
 import com.miloshpetrov.sol2.menu.MenuScreens;
 import com.miloshpetrov.sol2.ui.*;
@@ -137,7 +138,10 @@ public class SolApplication implements ApplicationListener {
   }
 
   public void startNewGame(boolean tut, boolean usePrevShip) {
+    long start = System.nanoTime();
     myGame = new SolGame(this, usePrevShip, myTextureManager, tut, myCommonDrawer);
+    ConfigBundle.getInstance().clearPrefetched();
+    Gdx.app.debug("SolApplication", "game created in " + (System.nanoTime() - start) / 1000000 + "ms");
     myInputMan.setScreen(this, myGame.getScreens().mainScreen);
   }
 
@@ -183,6 +187,9 @@ public class SolApplication implements ApplicationListener {
   }
 
   public void paused() {
-    if (myGame != null) myGame.saveShip();
+    if (myGame != null) {
+      myGame.saveShip();
+      myGame.saveWorld();
+    }
   }
 }
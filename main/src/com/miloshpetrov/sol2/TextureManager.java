@@ -13,6 +13,10 @@ public class TextureManager {
   public static final String ICONS_DIR = "ui/icons/";
   public static final String HULL_ICONS_DIR = "ui/hullIcons/";
   private final Map<String, TextureAtlas.AtlasRegion> textureMap;
+  private final Map<String, TextureAtlas.AtlasRegion> myFileTextures;
+  // interned textures: name -> id, id -> texture
+  private final Map<String, Integer> myTexIds;
+  private final ArrayList<TextureAtlas.AtlasRegion> myTexsById;
   private final Map<TextureAtlas.AtlasRegion,TextureAtlas.AtlasRegion> myFlipped;
   private final Map<String, ArrayList<TextureAtlas.AtlasRegion>> myPacks;
   private final TextureProvider textureProvider, textureProviderStaticFiles;
@@ -23,6 +27,9 @@ public class TextureManager {
     textureProvider = new AtlasTextureProvider(atlasFile);
     myPacks = new HashMap<String, ArrayList<TextureAtlas.AtlasRegion>>();
     textureMap = new HashMap<String, TextureAtlas.AtlasRegion>();
+    myFileTextures = new HashMap<String, TextureAtlas.AtlasRegion>();
+    myTexIds = new HashMap<String, Integer>();
+    myTexsById = new ArrayList<TextureAtlas.AtlasRegion>();
     myFlipped = new HashMap<TextureAtlas.AtlasRegion, TextureAtlas.AtlasRegion>();
   }
 
@@ -58,23 +65,38 @@ public class TextureManager {
     return r;
   }
 
-  public TextureAtlas.AtlasRegion getTexture(FileHandle textureFile) {
-    TextureAtlas.AtlasRegion result = textureMap.get(textureFile);
+  /**
+   * Resolves the texture once and returns a handle for {@link #getTex(int)}. Call it when loading configs and keep
+   * the handle, so that runtime code does not hash texture names.
+   */
+  public int getTexId(String fullName, FileHandle configFile) {
+    Integer id = myTexIds.get(fullName);
+    if (id != null) return id;
+    id = myTexsById.size();
+    myTexsById.add(getTex(fullName, configFile));
+    myTexIds.put(fullName, id);
+    return id;
+  }
 
-    if (result == null) {
-      result = textureProvider.getTexture(textureFile);
-      textureMap.put(textureFile.path(), result);
-    }
+  public TextureAtlas.AtlasRegion getTex(int texId) {
+    return myTexsById.get(texId);
+  }
+
+  public TextureAtlas.AtlasRegion getTexture(FileHandle textureFile) {
+    String path = textureFile.path();
+    TextureAtlas.AtlasRegion result = myFileTextures.get(path);
+    if (result != null) return result;
 
+    result = textureProvider.getTexture(textureFile);
     if (result == null) {
       result = textureProviderStaticFiles.getTexture(textureFile);
-      textureMap.put(textureFile.path(), result);
     }
 
     if (result == null) {
-        throw new AssertionError("texture not found: " + textureFile.path());
+        throw new AssertionError("texture not found: " + path);
     }
 
+    myFileTextures.put(path, result);
     return result;
   }
 
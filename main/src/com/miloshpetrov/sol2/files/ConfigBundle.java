@@ -0,0 +1,303 @@
+package com.miloshpetrov.sol2.files;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.miloshpetrov.sol2.game.DebugOptions;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Singleton class that provides parsed json config files.
+ * Files are read from the precompiled binary bundle (see {@link ConfigBundleBuilder}) when it exists and the lengths
+ * it recorded match the current json files (and their checksums too with the checkConfigBundle debug option),
+ * otherwise they are parsed from json. Json files can be parsed ahead of time on
+ * worker threads with {@link #prefetch()}.
+ */
+public final class ConfigBundle {
+
+    /**
+     * Parses the given json file, using the precompiled bundle if possible.
+     * @param file The json file.
+     * @return The root json value.
+     */
+    public JsonValue parse(FileHandle file) {
+        if (!loaded) {
+            load();
+        }
+        Future<JsonValue> prefetchedValue = prefetched.remove(file.path());
+        if (prefetchedValue != null) {
+            try {
+                return prefetchedValue.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // parsing it again on this thread reports the error properly
+            }
+        }
+        Integer offset = offsets.get(file.path());
+        if (offset == null) {
+            return new JsonReader().parse(file);
+        }
+        ByteBuffer buffer = data.duplicate();
+        buffer.position(offset);
+        return readValue(buffer);
+    }
+
+    /**
+     * Starts parsing all json config files which are not in the bundle on a pool of worker threads.
+     * Only file reading and json parsing happen there, so it is safe to run while the render thread keeps drawing.
+     */
+    public void prefetch() {
+        if (!loaded) {
+            load();
+        }
+        List<FileHandle> files = new ArrayList<FileHandle>();
+        collectJsonFiles(FileManager.getInstance().getConfigDirectory(), files);
+        collectJsonFiles(FileManager.getInstance().getAssetsDirectory().child("paths"), files);
+
+        if (executor == null) {
+            executor = createExecutor();
+        }
+        prefetchTotal = 0;
+        prefetchDone.set(0);
+        for (final FileHandle file : files) {
+            if (offsets.containsKey(file.path()) || prefetched.containsKey(file.path())) {
+                continue;
+            }
+            prefetchTotal++;
+            prefetched.put(file.path(), executor.submit(new Callable<JsonValue>() {
+                @Override
+                public JsonValue call() {
+                    long start = System.nanoTime();
+                    try {
+                        return new JsonReader().parse(file);
+                    } finally {
+                        prefetchDone.incrementAndGet();
+                        Gdx.app.debug(LOG_TAG, file.path() + ": " + (System.nanoTime() - start) / 1000 + "us");
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * Drops the prefetched files which were not asked for, call it once the game is created.
+     */
+    public void clearPrefetched() {
+        for (Future<JsonValue> future : prefetched.values()) {
+            future.cancel(false);
+        }
+        prefetched.clear();
+    }
+
+    private static ExecutorService createExecutor() {
+        int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadPoolExecutor res = new ThreadPoolExecutor(threadCount, threadCount, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "ConfigBundle");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        // the pool is kept for later prefetches, its threads end when idle
+        res.allowCoreThreadTimeOut(true);
+        return res;
+    }
+
+    /**
+     * Only tracks json parsing, the game objects are still built from these files on the render thread afterwards.
+     * @return the part of the prefetched files which are already parsed, 1 if nothing is being prefetched
+     */
+    public float getPrefetchProgress() {
+        return prefetchTotal == 0 ? 1 : prefetchDone.get() / (float) prefetchTotal;
+    }
+
+    private static void collectJsonFiles(FileHandle dir, List<FileHandle> files) {
+        for (FileHandle child : dir.list()) {
+            if (child.isDirectory()) {
+                collectJsonFiles(child, files);
+            } else if ("json".equals(child.extension())) {
+                files.add(child);
+            }
+        }
+    }
+
+    private void load() {
+        loaded = true;
+        FileHandle bundleFile = FileManager.getInstance().getStaticFile(BUNDLE_FILE);
+        if (!bundleFile.exists()) {
+            return;
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = map(bundleFile);
+        } catch (IOException e) {
+            return;
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            return;
+        }
+        int storedHash = buffer.getInt();
+        int entryCount = buffer.getInt();
+        Map<String, Integer> entryOffsets = new HashMap<String, Integer>();
+        int hash = FORMAT_VERSION;
+        for (int i = 0; i < entryCount; i++) {
+            String path = readString(buffer);
+            long sourceLength = buffer.getLong();
+            long sourceChecksum = buffer.getLong();
+            int dataLength = buffer.getInt();
+            FileHandle source = FileManager.getInstance().getStaticFile(path);
+            if (!source.path().equals(path) || !source.exists()) {
+                // a dev root path is used or the file is gone, json files are the source of truth then
+                return;
+            }
+            if (source.length() != sourceLength) {
+                return;
+            }
+            // reading every file is too slow for each start, it is only worth it while editing the configs
+            if (DebugOptions.CHECK_CONFIG_BUNDLE && checksum(source.readBytes()) != sourceChecksum) {
+                return;
+            }
+            hash = updateHash(hash, path, sourceLength, sourceChecksum);
+            entryOffsets.put(path, buffer.position());
+            buffer.position(buffer.position() + dataLength);
+        }
+        if (hash != storedHash) {
+            return;
+        }
+        offsets.putAll(entryOffsets);
+        data = buffer;
+    }
+
+    private static ByteBuffer map(FileHandle file) throws IOException {
+        if (file.type() == Files.FileType.Classpath || !file.file().exists()) {
+            return ByteBuffer.wrap(file.readBytes());
+        }
+        RandomAccessFile raf = new RandomAccessFile(file.file(), "r");
+        try {
+            return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close();
+        }
+    }
+
+    static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    static int updateHash(int hash, String path, long sourceLength, long sourceChecksum) {
+        hash = 31 * hash + path.hashCode();
+        hash = 31 * hash + (int) (sourceLength ^ (sourceLength >>> 32));
+        return 31 * hash + (int) (sourceChecksum ^ (sourceChecksum >>> 32));
+    }
+
+    private static JsonValue readValue(ByteBuffer buffer) {
+        byte type = buffer.get();
+        String name = readString(buffer);
+        JsonValue value;
+        switch (type) {
+            case TYPE_OBJECT:
+            case TYPE_ARRAY:
+                value = new JsonValue(type == TYPE_OBJECT ? JsonValue.ValueType.object : JsonValue.ValueType.array);
+                int childCount = buffer.getInt();
+                JsonValue last = null;
+                for (int i = 0; i < childCount; i++) {
+                    JsonValue child = readValue(buffer);
+                    if (last == null) {
+                        value.child = child;
+                    } else {
+                        last.next = child;
+                        child.prev = last;
+                    }
+                    last = child;
+                }
+                value.size = childCount;
+                break;
+            case TYPE_STRING:
+                value = new JsonValue(readString(buffer));
+                break;
+            case TYPE_DOUBLE:
+                value = new JsonValue(buffer.getDouble());
+                break;
+            case TYPE_LONG:
+                value = new JsonValue(buffer.getLong());
+                break;
+            case TYPE_BOOLEAN:
+                value = new JsonValue(buffer.get() != 0);
+                break;
+            default:
+                value = new JsonValue(JsonValue.ValueType.nullValue);
+        }
+        value.setName(name);
+        return value;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the singleton instance of this class.
+     * @return The instance.
+     */
+    public static ConfigBundle getInstance() {
+        if(instance == null) {
+            instance = new ConfigBundle();
+        }
+
+        return instance;
+    }
+
+    private ConfigBundle() {
+        offsets = new HashMap<String, Integer>();
+        prefetched = new ConcurrentHashMap<String, Future<JsonValue>>();
+        prefetchDone = new AtomicInteger();
+    }
+
+    private final Map<String, Integer> offsets;
+    private final Map<String, Future<JsonValue>> prefetched;
+    private final AtomicInteger prefetchDone;
+    private ExecutorService executor;
+    private int prefetchTotal;
+    private ByteBuffer data;
+    private boolean loaded;
+
+    private static final String LOG_TAG = "ConfigBundle";
+    static final String BUNDLE_FILE = "res/configBundle.bin";
+    static final int MAGIC = 0x534f4c42;
+    static final int FORMAT_VERSION = 3;
+    static final byte TYPE_OBJECT = 0;
+    static final byte TYPE_ARRAY = 1;
+    static final byte TYPE_STRING = 2;
+    static final byte TYPE_DOUBLE = 3;
+    static final byte TYPE_LONG = 4;
+    static final byte TYPE_BOOLEAN = 5;
+    static final byte TYPE_NULL = 6;
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static ConfigBundle instance = null;
+}
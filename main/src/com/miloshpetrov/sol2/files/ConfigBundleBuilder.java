@@ -0,0 +1,121 @@
+package com.miloshpetrov.sol2.files;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build-time tool that compiles the json files from res/configs and res/paths into the binary bundle read by
+ * {@link ConfigBundle}. Run it from the main project directory, e.g. with the buildConfigBundle gradle task.
+ */
+public final class ConfigBundleBuilder {
+
+    public static void main(String[] args) throws IOException {
+        File root = new File(args.length > 0 ? args[0] : ".");
+        List<String> paths = new ArrayList<String>();
+        for (String dir : SOURCE_DIRS) {
+            collectJsonFiles(root, dir, paths);
+        }
+        Collections.sort(paths);
+
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream entriesOut = new DataOutputStream(entries);
+        int hash = ConfigBundle.FORMAT_VERSION;
+        JsonReader reader = new JsonReader();
+        for (String path : paths) {
+            File source = new File(root, path);
+            byte[] sourceBytes = new FileHandle(source).readBytes();
+            long checksum = ConfigBundle.checksum(sourceBytes);
+            JsonValue value = reader.parse(new String(sourceBytes, ConfigBundle.UTF_8));
+            ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+            writeValue(new DataOutputStream(valueBytes), value);
+
+            writeString(entriesOut, path);
+            entriesOut.writeLong(sourceBytes.length);
+            entriesOut.writeLong(checksum);
+            entriesOut.writeInt(valueBytes.size());
+            valueBytes.writeTo(entriesOut);
+            hash = ConfigBundle.updateHash(hash, path, sourceBytes.length, checksum);
+        }
+        entriesOut.flush();
+
+        File bundle = new File(root, ConfigBundle.BUNDLE_FILE);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(bundle)));
+        try {
+            out.writeInt(ConfigBundle.MAGIC);
+            out.writeInt(ConfigBundle.FORMAT_VERSION);
+            out.writeInt(hash);
+            out.writeInt(paths.size());
+            entries.writeTo(out);
+        } finally {
+            out.close();
+        }
+        System.out.println("Wrote " + paths.size() + " files to " + bundle.getPath() + ", hash " + Integer.toHexString(hash));
+    }
+
+    private static void collectJsonFiles(File root, String path, List<String> paths) {
+        File file = new File(root, path);
+        if (file.isDirectory()) {
+            String[] children = file.list();
+            if (children == null) {
+                return;
+            }
+            for (String child : children) {
+                collectJsonFiles(root, path + "/" + child, paths);
+            }
+        } else if (path.endsWith(".json")) {
+            paths.add(path);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, JsonValue value) throws IOException {
+        if (value.isObject() || value.isArray()) {
+            out.writeByte(value.isObject() ? ConfigBundle.TYPE_OBJECT : ConfigBundle.TYPE_ARRAY);
+            writeString(out, value.name());
+            out.writeInt(value.size);
+            for (JsonValue child = value.child; child != null; child = child.next) {
+                writeValue(out, child);
+            }
+        } else if (value.isString()) {
+            out.writeByte(ConfigBundle.TYPE_STRING);
+            writeString(out, value.name());
+            writeString(out, value.asString());
+        } else if (value.isDouble()) {
+            out.writeByte(ConfigBundle.TYPE_DOUBLE);
+            writeString(out, value.name());
+            out.writeDouble(value.asDouble());
+        } else if (value.isLong()) {
+            out.writeByte(ConfigBundle.TYPE_LONG);
+            writeString(out, value.name());
+            out.writeLong(value.asLong());
+        } else if (value.isBoolean()) {
+            out.writeByte(ConfigBundle.TYPE_BOOLEAN);
+            writeString(out, value.name());
+            out.writeByte(value.asBoolean() ? 1 : 0);
+        } else {
+            out.writeByte(ConfigBundle.TYPE_NULL);
+            writeString(out, value.name());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(ConfigBundle.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private ConfigBundleBuilder() {
+
+    }
+
+    private final static String[] SOURCE_DIRS = {"res/configs", "res/paths"};
+}
@@ -2,7 +2,6 @@ package com.miloshpetrov.sol2.files;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
 import com.miloshpetrov.sol2.common.SolMath;
@@ -138,8 +137,7 @@ public final class HullConfigManager {
     }
 
     private void readProperties(FileHandle propertiesFile, HullConfig.Data configData) {
-        JsonReader jsonReader = new JsonReader();
-        JsonValue jsonNode = jsonReader.parse(propertiesFile);
+        JsonValue jsonNode = ConfigBundle.getInstance().parse(propertiesFile);
 
         configData.size = jsonNode.getFloat("size");
         configData.approxRadius = 0.4f * configData.size;
@@ -1,9 +1,9 @@
 package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.particle.EffectTypes;
 import com.miloshpetrov.sol2.game.ship.AbilityConfig;
@@ -17,10 +17,9 @@ public class AbilityCommonConfigs {
     public final AbilityCommonConfig sloMo;
 
     public AbilityCommonConfigs(EffectTypes effectTypes, TextureManager textureManager, GameColors cols, SoundManager soundManager) {
-        JsonReader r = new JsonReader();
 
         FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("abilities.json");
-        JsonValue node = r.parse(configFile);
+        JsonValue node = ConfigBundle.getInstance().parse(configFile);
         teleport = AbilityCommonConfig.load(node.get("teleport"), effectTypes, textureManager, cols, configFile, soundManager);
         emWave = AbilityCommonConfig.load(node.get("emWave"), effectTypes, textureManager, cols, configFile, soundManager);
         unShield = AbilityCommonConfig.load(node.get("unShield"), effectTypes, textureManager, cols, configFile, soundManager);
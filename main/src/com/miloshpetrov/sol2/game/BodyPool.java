@@ -0,0 +1,70 @@
+package com.miloshpetrov.sol2.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.miloshpetrov.sol2.common.SolMath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Keeps the bodies of short-lived objects (projectiles, loot, shards, small asteroids) deactivated instead of
+ * destroying them. A body is reused only by objects with the same key, which has to describe everything about its
+ * fixtures: shape, size, density, sensor flag and filter bits.
+ * Must not be used while the world steps.
+ */
+public class BodyPool {
+  private static final int MAX_FREE_PER_KEY = 32;
+
+  private final World myWorld;
+  private final HashMap<String, ArrayList<Body>> myFree;
+  private final IdentityHashMap<Body, String> myKeys;
+
+  public BodyPool(World world) {
+    myWorld = world;
+    myFree = new HashMap<String, ArrayList<Body>>();
+    myKeys = new IdentityHashMap<Body, String>();
+  }
+
+  /**
+   * @return a reactivated body with the given key moved to pos, null if there is none, then build a new body and
+   * {@link #register} it
+   */
+  public Body obtain(String key, Vector2 pos, float angle) {
+    ArrayList<Body> free = myFree.get(key);
+    if (free == null || free.isEmpty()) return null;
+    Body body = free.remove(free.size() - 1);
+    body.setTransform(pos, angle * SolMath.degRad);
+    body.setLinearVelocity(0, 0);
+    body.setAngularVelocity(0);
+    body.setActive(true);
+    body.setAwake(true);
+    return body;
+  }
+
+  public void register(Body body, String key) {
+    myKeys.put(body, key);
+  }
+
+  /**
+   * deactivates a registered body for later reuse, destroys any other body
+   */
+  public void free(Body body) {
+    String key = myKeys.get(body);
+    ArrayList<Body> free = key == null ? null : myFree.get(key);
+    if (key != null && free == null) {
+      free = new ArrayList<Body>();
+      myFree.put(key, free);
+    }
+    if (free == null || MAX_FREE_PER_KEY <= free.size()) {
+      if (key != null) myKeys.remove(body);
+      myWorld.destroyBody(body);
+      return;
+    }
+    body.setUserData(null);
+    body.setActive(false);
+    free.add(body);
+  }
+}
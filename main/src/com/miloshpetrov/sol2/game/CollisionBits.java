@@ -0,0 +1,90 @@
+package com.miloshpetrov.sol2.game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Box2D filter bits of ships, shields and projectiles. Each fraction gets its own ship, shield and projectile bit,
+ * so pairs of allies are dropped by a bit test instead of by looking at the game objects. Fixtures which are not
+ * touched here keep the Box2D default category, which is {@link #OBSTACLE}.
+ */
+public class CollisionBits {
+  public static final short OBSTACLE = 0x0001;
+  public static final short ALL = -1;
+
+  private static final int SHIP_SHIFT = 1;
+  private static final int PROJ_SHIFT = 5;
+  private static final int SHIELD_SHIFT = 9;
+  private static final int FRACTION_BITS = 0xf;
+  // ships and projectiles without a fraction are nobody's enemies
+  private static final short NEUTRAL_SHIP = 0x2000;
+  private static final short NEUTRAL_PROJ = 0x4000;
+  private static final short PROJS = (short) (FRACTION_BITS << PROJ_SHIFT | NEUTRAL_PROJ);
+  private static final short SHIELDS = (short) (FRACTION_BITS << SHIELD_SHIFT);
+
+  static {
+    if (Fraction.values().length > 4) throw new AssertionError("not enough collision bits for all fractions");
+  }
+
+  public static short shipCategory(Fraction fraction) {
+    return fraction == null ? NEUTRAL_SHIP : bit(fraction, SHIP_SHIFT);
+  }
+
+  public static short shieldCategory(Fraction fraction) {
+    return fraction == null ? NEUTRAL_SHIP : bit(fraction, SHIELD_SHIFT);
+  }
+
+  /**
+   * ships and shields collide with everything except the projectiles of their allies
+   */
+  public static short shipMask(Fraction fraction) {
+    return (short) (~PROJS | enemies(fraction, PROJ_SHIFT));
+  }
+
+  public static short projCategory(Fraction fraction) {
+    return fraction == null ? NEUTRAL_PROJ : bit(fraction, PROJ_SHIFT);
+  }
+
+  /**
+   * @param hitsShields false for projectiles which fly through shields, see {@link com.miloshpetrov.sol2.game.projectile.Projectile#shouldCollide}
+   */
+  public static short projMask(Fraction fraction, boolean hitsShields) {
+    int res = OBSTACLE | enemies(fraction, SHIP_SHIFT) | enemies(fraction, PROJ_SHIFT);
+    if (hitsShields) res |= enemies(fraction, SHIELD_SHIFT);
+    return (short) res;
+  }
+
+  public static boolean isProjectile(short category) {
+    return (category & PROJS) != 0;
+  }
+
+  public static boolean isShield(short category) {
+    return (category & SHIELDS) != 0;
+  }
+
+  public static void setFilter(Body body, short category, short mask) {
+    Filter filter = new Filter();
+    filter.categoryBits = category;
+    filter.maskBits = mask;
+    Array<Fixture> fixtures = body.getFixtureList();
+    for (int i = 0, sz = fixtures.size; i < sz; i++) {
+      fixtures.get(i).setFilterData(filter);
+    }
+  }
+
+  private static short bit(Fraction fraction, int shift) {
+    return (short) (1 << (shift + fraction.ordinal()));
+  }
+
+  // same rule as FractionMan.areEnemies
+  private static int enemies(Fraction fraction, int shift) {
+    if (fraction == null) return 0;
+    int res = 0;
+    for (Fraction f : Fraction.values()) {
+      if (f != fraction) res |= bit(f, shift);
+    }
+    return res;
+  }
+}
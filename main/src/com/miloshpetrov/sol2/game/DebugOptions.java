@@ -44,6 +44,13 @@ public class DebugOptions {
   public static MissingResourceAction MISSING_TEXTURE_ACTION;
   public static MissingResourceAction MISSING_PHYSICS_ACTION;
 
+  // ai, distances are in camera view distances
+  public static float AI_LOD_FULL_DIST = 1f;
+  public static float AI_LOD_MID_DIST = 1.5f;
+
+  // configs
+  public static boolean CHECK_CONFIG_BUNDLE = false;
+
 
   public static void read(SolFileReader reader) {
     IniReader r = new IniReader("debugOptions.ini", reader, true);
@@ -75,6 +82,9 @@ public class DebugOptions {
     MISSING_SOUND_ACTION = MissingResourceAction.forName(r.s("missingSoundAction", MissingResourceAction.IGNORE.name));
     MISSING_TEXTURE_ACTION = MissingResourceAction.forName(r.s("missingTextureAction", MissingResourceAction.IGNORE.name));
     MISSING_PHYSICS_ACTION = MissingResourceAction.forName(r.s("missingPhysicsAction", MissingResourceAction.IGNORE.name));
+    AI_LOD_FULL_DIST = r.f("aiLodFullDist", AI_LOD_FULL_DIST);
+    AI_LOD_MID_DIST = r.f("aiLodMidDist", AI_LOD_MID_DIST);
+    CHECK_CONFIG_BUNDLE = r.b("checkConfigBundle", CHECK_CONFIG_BUNDLE);
   }
 
 }
@@ -2,6 +2,8 @@ package com.miloshpetrov.sol2.game;
 
 public class FarObjData {
   public float delay;
+  // distance to the camera when the object was last found near, orders the promotions
+  public float dst;
   public final FarObj fo;
   public final float depth;
 
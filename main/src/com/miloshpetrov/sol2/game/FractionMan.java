@@ -73,7 +73,7 @@ public class FractionMan {
 
     @Override
     public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-      SolObject o = (SolObject) fixture.getBody().getUserData();
+      SolObject o = ObjectManager.getObj(fixture);
       if (o == shipFrom || o == shipTo) {
         return -1;
       }
@@ -5,12 +5,15 @@ import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.input.*;
 import com.miloshpetrov.sol2.game.item.TradeConfig;
+import com.miloshpetrov.sol2.game.item.TradeContainer;
 import com.miloshpetrov.sol2.game.maze.Maze;
 import com.miloshpetrov.sol2.game.planet.*;
 import com.miloshpetrov.sol2.game.ship.*;
 import com.miloshpetrov.sol2.game.ship.hulls.HullConfig;
+import com.miloshpetrov.sol2.save.SaveData;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class GalaxyFiller {
   public static final float STATION_CONSUME_SECTOR = 45f;
@@ -121,6 +124,86 @@ public class GalaxyFiller {
     }
   }
 
+  /**
+   * fills the galaxy restored by {@link PlanetManager#restore(SaveData)} with the saved ships
+   */
+  public void restore(SolGame game, SaveData save) {
+    if (DebugOptions.NO_OBJS) return;
+    createStarPorts(game);
+    List<SaveData.ShipData> ships = save.ships;
+    FarShip[] built = new FarShip[ships.size()];
+    HullConfig mainStationHc = game.getPlayerSpawnConfig().mainStation.hull;
+    // guards need their targets, so they go in the second pass
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0, sz = ships.size(); i < sz; i++) {
+        SaveData.ShipData sd = ships.get(i);
+        if ((sd.pilotType == SaveData.PilotType.GUARD) != (pass == 1)) continue;
+        if (sd.guardTarget == SaveData.HERO_TARGET) continue;
+        FarShip target = 0 <= sd.guardTarget ? built[sd.guardTarget] : null;
+        FarShip s = target == null ? restoreShip(game, sd, null, null, null) :
+          restoreShip(game, sd, target.getPilot(), target.getPos(), target.getHullConfig());
+        if (s == null) continue;
+        built[i] = s;
+        game.getObjMan().addFarObjNow(s);
+        if (myMainStationPos == null && s.getHullConfig() == mainStationHc) {
+          myMainStationPos = new Vector2(s.getPos());
+          myMainStationHc = mainStationHc;
+        }
+      }
+    }
+  }
+
+  /**
+   * restores the mercenaries of the hero, call it once the hero is created
+   */
+  public void restoreHeroGuards(SolGame game, SaveData save, SolShip hero) {
+    if (DebugOptions.NO_OBJS) return;
+    for (int i = 0, sz = save.ships.size(); i < sz; i++) {
+      SaveData.ShipData sd = save.ships.get(i);
+      if (sd.guardTarget != SaveData.HERO_TARGET) continue;
+      FarShip s = restoreShip(game, sd, hero.getPilot(), hero.getPos(), hero.getHull().config);
+      if (s != null) game.getObjMan().addFarObjNow(s);
+    }
+  }
+
+  /**
+   * pilots get the same parameters as in {@link #build}, {@link #createGuard} and for the hired mercenaries
+   * @param target pilot of the guarded ship, null for other ships
+   */
+  private FarShip restoreShip(SolGame game, SaveData.ShipData sd, @Nullable Pilot target, @Nullable Vector2 targetPos,
+    @Nullable HullConfig targetHc)
+  {
+    HullConfig hullConf = game.getHullConfigs().getConfig(sd.hullName);
+    if (hullConf == null) return null;
+    ArrayList<SolSystem> systems = game.getPlanetMan().getSystems();
+    Vector2 pos = new Vector2(sd.x, sd.y);
+    MoveDestProvider dp;
+    float detectionDist = Const.AI_DET_DIST;
+    boolean guard = sd.pilotType == SaveData.PilotType.GUARD;
+    if (sd.pilotType == SaveData.PilotType.STATION) {
+      dp = new NoDestProvider();
+    } else if (sd.pilotType == SaveData.PilotType.EXPLORER) {
+      boolean isBig = hullConf.getType() == HullConfig.Type.BIG;
+      SolSystem sys = 0 <= sd.sysIdx ? systems.get(sd.sysIdx) : game.getPlanetMan().getNearestSystem(pos);
+      dp = new ExplorerDestProvider(game, pos, !isBig, hullConf, sys);
+      if (!isBig) detectionDist *= 1.5;
+    } else if (guard && target != null) {
+      dp = new Guardian(game, hullConf, target, targetPos, targetHc, sd.guardAngle);
+    } else {
+      return null;
+    }
+    String mapHint = !guard ? "something" : target.isPlayer() ? "Merc" : null;
+    Pilot pilot = new AiPilot(dp, true, sd.fraction, !guard, mapHint, detectionDist);
+    TradeConfig tradeConfig = 0 <= sd.tradeSysIdx ? systems.get(sd.tradeSysIdx).getConfig().tradeConfig : null;
+    boolean hasRepairer = sd.fraction == Fraction.LAANI;
+    FarShip s = game.getShipBuilder().buildNewFar(game, pos, new Vector2(sd.spdX, sd.spdY), sd.angle, 0, pilot,
+      sd.items, hullConf, null, hasRepairer, sd.money, tradeConfig, false);
+    s.setLife(sd.life);
+    TradeContainer tc = s.getTradeContainer();
+    if (tc != null && sd.stock != null) tc.restoreStock(game.getItemMan(), sd.stock, sd.restockTime);
+    return s;
+  }
+
   private void createStarPorts(SolGame game) {
     PlanetManager planetManager = game.getPlanetMan();
     ArrayList<Planet> biggest = new ArrayList<Planet>();
@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.common.SolColorUtil;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 
 import java.util.HashMap;
@@ -18,9 +18,8 @@ public class GameColors {
     private final HashMap<String, Color> colors;
 
     public GameColors() {
-        JsonReader r = new JsonReader();
         FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("colors.json");
-        JsonValue node = r.parse(configFile);
+        JsonValue node = ConfigBundle.getInstance().parse(configFile);
         colors = new HashMap<String, Color>();
 
         for (JsonValue colVal : node) {
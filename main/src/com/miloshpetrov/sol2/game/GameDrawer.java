@@ -1,6 +1,7 @@
 package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.math.Vector2;
 import com.miloshpetrov.sol2.*;
@@ -50,6 +51,14 @@ public class GameDrawer {
     myDrawer.draw(tr, width, height, origX, origY, x, y, rot, tint);
   }
 
+  /**
+   * draws sprites prepared as batch vertices (x, y, color, u, v), see {@link com.miloshpetrov.sol2.game.dra.SpriteLayer}
+   */
+  public void draw(Texture texture, TextureAtlas.AtlasRegion tex, float[] vertices, int count) {
+    maybeChangeAdditive(false);
+    myDrawer.draw(texture, tex, vertices, count);
+  }
+
   public void drawLine(TextureRegion tex, float x, float y, float angle, float len, Color col, float width) {
     maybeChangeAdditive(false);
     myDrawer.drawLine(tex, x, y, angle, len, col, width);
@@ -0,0 +1,27 @@
+package com.miloshpetrov.sol2.game;
+
+import com.miloshpetrov.sol2.TextureManager;
+import com.miloshpetrov.sol2.game.ship.Teleport;
+
+/**
+ * Handles of the textures which are looked up while the game runs, resolved once when the game is created
+ */
+public class GameTexIds {
+  public final int lightCircle;
+  public final int lightHalo;
+  public final int skyFill;
+  public final int skyGrad;
+  public final int door;
+  public final int transcendent;
+  public final int teleportBlip;
+
+  public GameTexIds(TextureManager textureManager) {
+    lightCircle = textureManager.getTexId("smallGameObjs/particles/lightCircle", null);
+    lightHalo = textureManager.getTexId("smallGameObjs/particles/lightHalo", null);
+    skyFill = textureManager.getTexId("planetStarCommons/whiteTex", null);
+    skyGrad = textureManager.getTexId("planetStarCommons/grad", null);
+    door = textureManager.getTexId("smallGameObjs/door", null);
+    transcendent = textureManager.getTexId("smallGameObjs/transcendent", null);
+    teleportBlip = textureManager.getTexId(Teleport.TEX_PATH, null);
+  }
+}
@@ -0,0 +1,17 @@
+package com.miloshpetrov.sol2.game;
+
+public class ObjData {
+  public final SolObject o;
+  public float radius;
+  public boolean radiusDirty;
+  public float nearTime;
+  // distance to the camera when the object was last found far, orders the demotions
+  public float dst;
+  // position in the object lists of the object manager
+  int idx;
+
+  public ObjData(SolObject o) {
+    this.o = o;
+    radiusDirty = true;
+  }
+}
@@ -2,6 +2,7 @@ package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.*;
@@ -11,33 +12,63 @@ import com.miloshpetrov.sol2.game.ship.FarShip;
 import java.util.*;
 
 public class ObjectManager {
-  private static final float MAX_RADIUS_RECALC_AWAIT = 1f;
+  // near/far conversions per tick, objects in the camera view are converted regardless but use up the budget
+  public static final int MAX_TRANSITIONS_PER_TICK = 12;
+  // objects stay near at least this long, so objects moving along the far border are not rebuilt every few frames
+  private static final float NEAR_GRACE_TIME = 3f;
   private final List<SolObject> myObjs;
+  private final List<ObjData> myObjDatas;
+  private final Map<SolObject, ObjData> myObjDataMap;
+  // data of the object being updated, its dras mark the radius dirty through it without a lookup
+  private ObjData myUpdated;
   private final List<SolObject> myToRemove;
   private final List<SolObject> myToAdd;
   private final List<FarObjData> myFarObjs;
   private final List<FarShip> myFarShips;
   private final List<StarPort.MyFar> myFarPorts;
+  private final List<ObjData> myToDemote;
+  private final List<FarObjData> myToPromote;
+  private final Comparator<ObjData> myFarthestFirst;
+  private final Comparator<FarObjData> myNearestFirst;
   private final World myWorld;
+  private final SolContactListener myContactListener;
   private final Box2DDebugRenderer myDr;
-  private final HashMap<SolObject, Float> myRadii;
+  private final RaycastBudget myRaycastBudget;
+  private final BodyPool myBodyPool;
 
   private float myFarEndDist;
   private float myFarBeginDist;
-  private float myRadiusRecalcAwait;
 
   public ObjectManager(SolContactListener contactListener, FractionMan fractionMan) {
     myObjs = new ArrayList<SolObject>();
+    myObjDatas = new ArrayList<ObjData>();
+    myObjDataMap = new HashMap<SolObject, ObjData>();
     myToRemove = new ArrayList<SolObject>();
     myToAdd = new ArrayList<SolObject>();
     myFarObjs = new ArrayList<FarObjData>();
     myFarShips = new ArrayList<FarShip>();
     myFarPorts = new ArrayList<StarPort.MyFar>();
+    myToDemote = new ArrayList<ObjData>();
+    myToPromote = new ArrayList<FarObjData>();
+    myFarthestFirst = new Comparator<ObjData>() {
+      @Override
+      public int compare(ObjData o1, ObjData o2) {
+        return Float.compare(o2.dst, o1.dst);
+      }
+    };
+    myNearestFirst = new Comparator<FarObjData>() {
+      @Override
+      public int compare(FarObjData o1, FarObjData o2) {
+        return Float.compare(o1.dst, o2.dst);
+      }
+    };
     myWorld = new World(new Vector2(0, 0), true);
+    myContactListener = contactListener;
     myWorld.setContactListener(contactListener);
     myWorld.setContactFilter(new SolContactFilter(fractionMan));
     myDr = new Box2DDebugRenderer();
-    myRadii = new HashMap<SolObject, Float>();
+    myRaycastBudget = new RaycastBudget();
+    myBodyPool = new BodyPool(myWorld);
   }
 
   public boolean containsFarObj(FarObj fo) {
@@ -54,22 +85,18 @@ public class ObjectManager {
 
     float ts = game.getTimeStep();
     myWorld.step(ts, 6, 2);
+    myContactListener.dispatch();
 
     SolCam cam = game.getCam();
     Vector2 camPos = cam.getPos();
     myFarEndDist = 1.5f * cam.getViewDist();
     myFarBeginDist = 1.33f * myFarEndDist;
-
-    boolean recalcRad = false;
-    if (myRadiusRecalcAwait > 0) {
-      myRadiusRecalcAwait -= ts;
-    } else {
-      myRadiusRecalcAwait = MAX_RADIUS_RECALC_AWAIT;
-      recalcRad = true;
-    }
+    myRaycastBudget.reset(cam.getViewDist());
 
     for (int i1 = 0, myObjsSize = myObjs.size(); i1 < myObjsSize; i1++) {
-      SolObject o = myObjs.get(i1);
+      ObjData od = myObjDatas.get(i1);
+      SolObject o = od.o;
+      myUpdated = od;
       o.update(game);
       SolMath.checkVectorsTaken(o);
       List<Dra> dras = o.getDras();
@@ -77,18 +104,15 @@ public class ObjectManager {
         Dra dra = dras.get(i);
         dra.update(game, o);
       }
+      myUpdated = null;
 
       if (o.shouldBeRemoved(game)) {
         removeObjDelayed(o);
         continue;
       }
-      if (isFar(o, camPos)) {
-        FarObj fo = o.toFarObj();
-        if (fo != null) addFarObjNow(fo);
-        removeObjDelayed(o);
-        continue;
-      }
-      if (recalcRad) recalcRadius(o);
+      od.nearTime += ts;
+      if (od.radiusDirty) recalcRadius(od);
+      if (NEAR_GRACE_TIME < od.nearTime && isFar(od, camPos)) myToDemote.add(od);
     }
 
     for (Iterator<FarObjData> it = myFarObjs.iterator(); it.hasNext(); ) {
@@ -100,35 +124,70 @@ public class ObjectManager {
         removeFo(it, fo);
         continue;
       }
-      if (isNear(fod, camPos, ts)) {
-        SolObject o = fo.toObj(game);
-        addObjDelayed(o);
-        removeFo(it, fo);
-      }
+      if (isNear(fod, camPos, ts)) myToPromote.add(fod);
     }
+    applyTransitions(game, cam.getViewDist());
     addRemove(game);
   }
 
+  /**
+   * converts the nearest far objects and the farthest near objects, at most {@link #MAX_TRANSITIONS_PER_TICK}
+   * besides the ones in the camera view. The rest is found again next tick.
+   */
+  private void applyTransitions(SolGame game, float viewDist) {
+    int left = MAX_TRANSITIONS_PER_TICK;
+    Collections.sort(myToPromote, myNearestFirst);
+    for (int i = 0, sz = myToPromote.size(); i < sz; i++) {
+      FarObjData fod = myToPromote.get(i);
+      if (left <= 0 && viewDist <= fod.dst) break;
+      left--;
+      FarObj fo = fod.fo;
+      if (fo instanceof FarShip) game.getSoundMan().prefetch((FarShip) fo);
+      SolObject o = fo.toObj(game);
+      addObjDelayed(o);
+      myFarObjs.remove(fod);
+      removeFo(fo);
+    }
+    myToPromote.clear();
+
+    Collections.sort(myToDemote, myFarthestFirst);
+    for (int i = 0, sz = myToDemote.size(); i < sz && left > 0; i++, left--) {
+      SolObject o = myToDemote.get(i).o;
+      FarObj fo = o.toFarObj();
+      if (fo != null) addFarObjNow(fo);
+      removeObjDelayed(o);
+    }
+    myToDemote.clear();
+  }
+
   private void removeFo(Iterator<FarObjData> it, FarObj fo) {
     it.remove();
+    removeFo(fo);
+  }
+
+  private void removeFo(FarObj fo) {
     if (fo instanceof FarShip) myFarShips.remove(fo);
     if (fo instanceof StarPort.MyFar) myFarPorts.remove(fo);
   }
 
-  private void recalcRadius(SolObject o) {
-    float rad = DraMan.radiusFromDras(o.getDras());
-    myRadii.put(o, rad);
+  private void recalcRadius(ObjData od) {
+    od.radius = DraMan.radiusFromDras(od.o.getDras());
+    od.radiusDirty = false;
   }
 
-  public float getPresenceRadius(SolObject o) {
-    Float res = getRadius(o);
-    return res + Const.MAX_MOVE_SPD * (MAX_RADIUS_RECALC_AWAIT - myRadiusRecalcAwait);
+  public float getPresenceRadius(ObjData od) {
+    return od.radius;
   }
 
-  public Float getRadius(SolObject o) {
-    Float res = myRadii.get(o);
-    if (res == null) throw new AssertionError("no radius for " + o);
-    return res;
+  /**
+   * call when dras of an object are added, removed, resized or moved. The radius is recomputed in the next update,
+   * there is no periodic recomputation, so a dra which changes its reach must report it. Calls from the update of the
+   * object or its dras use the data at hand, only equipment changes from the screens need the lookup
+   */
+  public void markRadiusDirty(SolObject o) {
+    ObjData od = myUpdated != null && myUpdated.o == o ? myUpdated : myObjDataMap.get(o);
+    if (od == null) return;
+    od.radiusDirty = true;
   }
 
   private void addRemove(SolGame game) {
@@ -145,17 +204,33 @@ public class ObjectManager {
     myToAdd.clear();
   }
 
+  /**
+   * the last object takes the place of the removed one, so the removal doesn't shift the lists
+   */
   private void removeObjNow(SolGame game, SolObject o) {
-    myObjs.remove(o);
-    myRadii.remove(o);
+    ObjData od = myObjDataMap.remove(o);
+    if (od != null) {
+      int last = myObjs.size() - 1;
+      ObjData lastOd = myObjDatas.get(last);
+      myObjs.set(od.idx, lastOd.o);
+      myObjDatas.set(od.idx, lastOd);
+      lastOd.idx = od.idx;
+      myObjs.remove(last);
+      myObjDatas.remove(last);
+    }
     o.onRemove(game);
     game.getDraMan().objRemoved(o);
+    game.getSoundMan().objRemoved(o);
   }
 
   public void addObjNow(SolGame game, SolObject o) {
-    if (DebugOptions.ASSERTIONS && myObjs.contains(o)) throw new AssertionError();
+    if (DebugOptions.ASSERTIONS && myObjDataMap.containsKey(o)) throw new AssertionError();
+    ObjData od = new ObjData(o);
+    od.idx = myObjs.size();
     myObjs.add(o);
-    recalcRadius(o);
+    recalcRadius(od);
+    myObjDatas.add(od);
+    myObjDataMap.put(o, od);
     game.getDraMan().objAdded(o);
   }
 
@@ -167,16 +242,19 @@ public class ObjectManager {
     FarObj fo = fod.fo;
     float r = fo.getRadius() * fod.depth;
     float dst = fo.getPos().dst(camPos) - r;
+    fod.dst = dst;
     if (dst < myFarEndDist) return true;
     fod.delay = (dst - myFarEndDist) / (2 * Const.MAX_MOVE_SPD);
     return false;
   }
 
-  private boolean isFar(SolObject o, Vector2 camPos) {
-    float r = getPresenceRadius(o);
+  private boolean isFar(ObjData od, Vector2 camPos) {
+    SolObject o = od.o;
+    float r = getPresenceRadius(od);
     List<Dra> dras = o.getDras();
     if (dras != null && dras.size() > 0) r *= dras.get(0).getLevel().depth;
     float dst = o.getPos().dst(camPos) - r;
+    od.dst = dst;
     return myFarBeginDist < dst;
   }
 
@@ -214,9 +292,10 @@ public class ObjectManager {
     SolCam cam = game.getCam();
     float lineWidth = cam.getRealLineWidth();
     float vh = cam.getViewHeight();
-    for (SolObject o : myObjs) {
+    for (ObjData od : myObjDatas) {
+      SolObject o = od.o;
       Vector2 pos = o.getPos();
-      float r = getRadius(o);
+      float r = od.radius;
       drawer.drawCircle(drawer.debugWhiteTex, pos, r, DebugCol.OBJ, lineWidth, vh);
       drawer.drawLine(drawer.debugWhiteTex, pos.x, pos.y, o.getAngle(), r, DebugCol.OBJ, lineWidth);
     }
@@ -232,6 +311,13 @@ public class ObjectManager {
     return myObjs;
   }
 
+  /**
+   * same order as {@link #getObjs()}
+   */
+  public List<ObjData> getObjDatas() {
+    return myObjDatas;
+  }
+
 
   public void addObjDelayed(SolObject p) {
     if (DebugOptions.ASSERTIONS && myToAdd.contains(p)) throw new AssertionError();
@@ -247,6 +333,24 @@ public class ObjectManager {
     return myWorld;
   }
 
+  /**
+   * @return the object a fixture belongs to. Ground tiles share the body of their planet, so their fixtures point to
+   * the tile themselves, the fixtures of any other object are found through the body
+   */
+  public static SolObject getObj(Fixture fixture) {
+    Object o = fixture.getUserData();
+    if (o == null) o = fixture.getBody().getUserData();
+    return (SolObject) o;
+  }
+
+  public RaycastBudget getRaycastBudget() {
+    return myRaycastBudget;
+  }
+
+  public BodyPool getBodyPool() {
+    return myBodyPool;
+  }
+
   public void resetDelays() {
     for (int i = 0, myFarObjsSize = myFarObjs.size(); i < myFarObjsSize; i++) {
       FarObjData data = myFarObjs.get(i);
@@ -6,11 +6,11 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.SolColor;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.dra.*;
@@ -31,7 +31,6 @@ public class PathLoader {
   private final Model model;
 
   // Reusable stuff
-  private final List<Vector2> vectorPool = new ArrayList<Vector2>();
   private final PolygonShape tmpPolyShape = new PolygonShape();
   private final CircleShape tmpCircleShape = new CircleShape();
   private final Vector2 tmpV = new Vector2();
@@ -48,7 +47,7 @@ public class PathLoader {
   public PathLoader(String fileName) {
     FileHandle file = FileManager.getInstance().getAssetsDirectory().child("paths").child(fileName + ".json");
     if (file.exists()) {
-      model = readJson(file.readString());
+      model = readJson(file);
     } else {
       model = new Model();
     }
@@ -92,39 +91,21 @@ public class PathLoader {
       return false;
     }
 
-    Vector2 origin = tmpV.set(rbModel.origin).scl(scale);
+    if (rbModel.scaledFor != scale) scaleModel(rbModel, scale);
 
-    int polyCount = rbModel.polys.size();
-    for (int i = 0; i < polyCount; i++) {
-      PolygonModel poly = rbModel.polys.get(i);
-      Vector2[] points = poly.tmpArray;
-
-      int pointCount = points.length;
-      for (int ii = 0; ii < pointCount; ii++) {
-        Vector2 origPoint = poly.vertices.get(pointCount - ii - 1);
-        points[ii] = newVec(origPoint).scl(scale);
-        points[ii].sub(origin);
-      }
-
-      tmpPolyShape.set(points);
+    float[][] polys = rbModel.scaledPolys;
+    for (int i = 0; i < polys.length; i++) {
+      tmpPolyShape.set(polys[i]);
       fd.shape = tmpPolyShape;
       body.createFixture(fd);
-
-      for (Vector2 point : points) free(point);
     }
 
-    int circleCount = rbModel.circles.size();
-    for (int i = 0; i < circleCount; i++) {
-      CircleModel circle = rbModel.circles.get(i);
-      Vector2 center = newVec(circle.center).scl(scale).sub(origin);
-      float radius = circle.radius * scale;
-
-      tmpCircleShape.setPosition(center);
-      tmpCircleShape.setRadius(radius);
+    float[] circles = rbModel.scaledCircles;
+    for (int i = 0; i < circles.length; i += 3) {
+      tmpCircleShape.setPosition(tmpV.set(circles[i], circles[i + 1]));
+      tmpCircleShape.setRadius(circles[i + 2]);
       fd.shape = tmpCircleShape;
       body.createFixture(fd);
-
-      free(center);
     }
     return true;
   }
@@ -165,6 +146,10 @@ public class PathLoader {
     return model;
   }
 
+  public boolean hasRigidBody(String name) {
+    return model.rigidBodies.containsKey(name);
+  }
+
   public void readJson(JsonValue rigidBodyNode, HullConfig hullConfig) {
     RigidBodyModel rigidBodyModel = readRigidBody(rigidBodyNode, hullConfig);
     model.rigidBodies.put(rigidBodyModel.name, rigidBodyModel);
@@ -185,11 +170,14 @@ public class PathLoader {
     public final List<PolygonModel> polys = new ArrayList<PolygonModel>();
     public final List<PolygonModel> shapes = new ArrayList<PolygonModel>();
     public final List<CircleModel> circles = new ArrayList<CircleModel>();
+    // polygon vertices (x, y) and circles (x, y, radius) for the last scale, relative to the origin
+    private float scaledFor = -1;
+    private float[][] scaledPolys;
+    private float[] scaledCircles;
   }
 
   public static class PolygonModel {
     public final List<Vector2> vertices = new ArrayList<Vector2>();
-    private Vector2[] tmpArray; // used to avoid allocation in attachFixture()
   }
 
   public static class CircleModel {
@@ -203,9 +191,9 @@ public class PathLoader {
   // Json reading process
   // -------------------------------------------------------------------------
 
-  private Model readJson(String str) {
+  private Model readJson(FileHandle file) {
     Model m = new Model();
-    JsonValue rootElem = new JsonReader().parse(str);
+    JsonValue rootElem = ConfigBundle.getInstance().parse(file);
 
     JsonValue bodiesElems = rootElem.get("rigidBodies");
 
@@ -243,7 +231,6 @@ public class PathLoader {
                 polygon.vertices.add(new Vector2(x, y));
             }
 
-            polygon.tmpArray = new Vector2[polygon.vertices.size()];
         }
 
         // shapes
@@ -266,7 +253,6 @@ public class PathLoader {
                 shape.vertices.add(new Vector2(x, y));
             }
 
-            shape.tmpArray = new Vector2[shape.vertices.size()];
         }
 
         // circles
@@ -311,7 +297,6 @@ public class PathLoader {
         polygon.vertices.add(new Vector2(x, y));
       }
 
-      polygon.tmpArray = new Vector2[polygon.vertices.size()];
     }
 
     // shapes
@@ -334,7 +319,6 @@ public class PathLoader {
         shape.vertices.add(new Vector2(x, y));
       }
 
-      shape.tmpArray = new Vector2[shape.vertices.size()];
     }
 
     // circles
@@ -358,18 +342,41 @@ public class PathLoader {
   // Helpers
   // -------------------------------------------------------------------------
 
-  private Vector2 newVec() {
-    return newVec(null);
-  }
+  /**
+   * Hulls are always attached with the same scale, so their vertices are scaled only once. The arrays are reused
+   * when the scale changes.
+   */
+  private static void scaleModel(RigidBodyModel rbModel, float scale) {
+    int polyCount = rbModel.polys.size();
+    if (rbModel.scaledPolys == null) {
+      rbModel.scaledPolys = new float[polyCount][];
+      for (int i = 0; i < polyCount; i++) {
+        rbModel.scaledPolys[i] = new float[rbModel.polys.get(i).vertices.size() * 2];
+      }
+      rbModel.scaledCircles = new float[rbModel.circles.size() * 3];
+    }
+    float originX = rbModel.origin.x * scale;
+    float originY = rbModel.origin.y * scale;
 
-  private Vector2 newVec(Vector2 v) {
-    Vector2 res = vectorPool.isEmpty() ? new Vector2() : vectorPool.remove(0);
-    if (v != null) res.set(v);
-    return res;
-  }
+    for (int i = 0; i < polyCount; i++) {
+      List<Vector2> vertices = rbModel.polys.get(i).vertices;
+      float[] points = rbModel.scaledPolys[i];
+      int pointCount = vertices.size();
+      for (int ii = 0; ii < pointCount; ii++) {
+        Vector2 origPoint = vertices.get(pointCount - ii - 1);
+        points[2 * ii] = origPoint.x * scale - originX;
+        points[2 * ii + 1] = origPoint.y * scale - originY;
+      }
+    }
 
-  private void free(Vector2 v) {
-    vectorPool.add(v);
+    float[] circles = rbModel.scaledCircles;
+    for (int i = 0, sz = rbModel.circles.size(); i < sz; i++) {
+      CircleModel circle = rbModel.circles.get(i);
+      circles[3 * i] = circle.center.x * scale - originX;
+      circles[3 * i + 1] = circle.center.y * scale - originY;
+      circles[3 * i + 2] = circle.radius * scale;
+    }
+    rbModel.scaledFor = scale;
   }
 
     /**
@@ -419,30 +426,37 @@ public class PathLoader {
    * @param texName used both to load a texture and to load a path from the path file. should be just a file name without a path or extension
    * @param dras a texture will be added here
    * @param tex pass if you already have a texture.. So hacky!
+   * @param pooled the body is reused through {@link BodyPool}, the owner must hand it back with {@link BodyPool#free}
    */
   public Body getBodyAndSprite(SolGame game, String texDirName, String texName, float scale, BodyDef.BodyType type,
-    Vector2 pos, float angle, List<Dra> dras, float density, DraLevel level, TextureAtlas.AtlasRegion tex)
+    Vector2 pos, float angle, List<Dra> dras, float density, DraLevel level, TextureAtlas.AtlasRegion tex, boolean pooled)
   {
-    BodyDef bd = new BodyDef();
-    bd.type = type;
-    bd.angle = angle * SolMath.degRad;
-    bd.angularDamping = 0;
-    bd.position.set(pos);
-    bd.linearDamping = 0;
-    Body body = game.getObjMan().getWorld().createBody(bd);
-    FixtureDef fd = new FixtureDef();
-    fd.density = density;
-    fd.friction = Const.FRICTION;
+    BodyPool pool = game.getObjMan().getBodyPool();
+    String poolKey = pooled ? texName + " " + scale + " " + density + " " + type : null;
+    Body body = pooled ? pool.obtain(poolKey, pos, angle) : null;
     String pathName = texName + ".png";
-    Vector2 orig;
-    boolean found = attachFixture(body, pathName, fd, scale);
-    if (!found) {
-      DebugOptions.MISSING_PHYSICS_ACTION.handle("Could not find physics data for " + texDirName + "/" + texName);
-      fd.shape = new CircleShape();
-      fd.shape.setRadius(scale/2);
-      body.createFixture(fd);
-      fd.shape.dispose();
+    if (body == null) {
+      BodyDef bd = new BodyDef();
+      bd.type = type;
+      bd.angle = angle * SolMath.degRad;
+      bd.angularDamping = 0;
+      bd.position.set(pos);
+      bd.linearDamping = 0;
+      body = game.getObjMan().getWorld().createBody(bd);
+      FixtureDef fd = new FixtureDef();
+      fd.density = density;
+      fd.friction = Const.FRICTION;
+      boolean found = attachFixture(body, pathName, fd, scale);
+      if (!found) {
+        DebugOptions.MISSING_PHYSICS_ACTION.handle("Could not find physics data for " + texDirName + "/" + texName);
+        fd.shape = new CircleShape();
+        fd.shape.setRadius(scale/2);
+        body.createFixture(fd);
+        fd.shape.dispose();
+      }
+      if (pooled) pool.register(body, poolKey);
     }
+    Vector2 orig;
 
     orig = getOrigin(pathName, 1);
     if (tex == null) {
@@ -1,8 +1,8 @@
 package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.item.ItemManager;
@@ -19,9 +19,8 @@ public class PlayerSpawnConfig {
   }
 
   public static PlayerSpawnConfig load(HullConfigManager hullConfigs, ItemManager itemManager) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("playerSpawn.json");
-    JsonValue mainNode = r.parse(configFile);
+    JsonValue mainNode = ConfigBundle.getInstance().parse(configFile);
     JsonValue playerNode = mainNode.get("player");
     ShipConfig shipConfig = ShipConfig.load(hullConfigs, playerNode.get("ship"), itemManager);
     ShipConfig godShipConfig = ShipConfig.load(hullConfigs, playerNode.get("godModeShip"), itemManager);
@@ -0,0 +1,43 @@
+package com.miloshpetrov.sol2.game;
+
+import java.util.Arrays;
+
+/**
+ * limits the number of ai avoidance requests per tick so that big fleets don't flood box2d. Requests are granted to the
+ * ships nearest to the camera: the camera distances asked with in a tick set the distance up to which requests are
+ * granted in the next one. Requests from the camera view are always granted but still use up the budget
+ */
+public class RaycastBudget {
+  public static final int MAX_PER_TICK = 16;
+  private int myLeft;
+  private float myViewDist;
+  private float myMaxDist;
+  private float[] myDists;
+  private int myDistCount;
+
+  public RaycastBudget() {
+    myLeft = MAX_PER_TICK;
+    myMaxDist = Float.MAX_VALUE;
+    myDists = new float[4 * MAX_PER_TICK];
+  }
+
+  public void reset(float viewDist) {
+    myLeft = MAX_PER_TICK;
+    myViewDist = viewDist;
+    if (myDistCount <= MAX_PER_TICK) {
+      myMaxDist = Float.MAX_VALUE;
+    } else {
+      Arrays.sort(myDists, 0, myDistCount);
+      myMaxDist = myDists[MAX_PER_TICK - 1];
+    }
+    myDistCount = 0;
+  }
+
+  public boolean tryTake(float camDist) {
+    if (myDistCount == myDists.length) myDists = Arrays.copyOf(myDists, 2 * myDistCount);
+    myDists[myDistCount++] = camDist;
+    if (myViewDist <= camDist && (myLeft <= 0 || myMaxDist < camDist)) return false;
+    myLeft--;
+    return true;
+  }
+}
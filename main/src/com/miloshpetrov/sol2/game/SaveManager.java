@@ -1,17 +1,33 @@
 package com.miloshpetrov.sol2.game;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.item.ItemManager;
 import com.miloshpetrov.sol2.game.item.SolItem;
 import com.miloshpetrov.sol2.game.ship.hulls.HullConfig;
 import com.miloshpetrov.sol2.IniReader;
+import com.miloshpetrov.sol2.save.SaveData;
+import com.miloshpetrov.sol2.save.SaveJournal;
+import com.miloshpetrov.sol2.save.SaveSerializer;
 
+import java.io.*;
 import java.util.ArrayList;
+import java.util.concurrent.*;
 
 public class SaveManager {
 
   public static final String FILE_NAME = "prevShip.ini";
+  public static final String WORLD_FILE_NAME = "world.sav";
+  public static final String JOURNAL_FILE_NAME = "world.journal";
+
+  // one writer thread which exits when idle, so it never keeps the application alive
+  private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS,
+    new LinkedBlockingQueue<Runnable>());
+  static {
+    WRITER.allowCoreThreadTimeOut(true);
+  }
 
   public static void writeShip(HullConfig hull, float money, ArrayList<SolItem> items, SolGame game) {
     String hullName = game.getHullConfigs().getName(hull);
@@ -26,6 +42,129 @@ public class SaveManager {
     return FileManager.getInstance().getDynamicFile(FILE_NAME).exists();
   }
 
+  /**
+   * captures the world on the calling thread and writes it in the background, then truncates the journal.
+   * Journal appends queued before this call are covered by the snapshot, later ones are queued after it.
+   * If the write fails, the previous snapshot and journal are kept and a new snapshot is taken on the next flush
+   */
+  public static void writeWorld(SolGame game) {
+    final SaveJournal journal = game.getSaveJournal();
+    journal.discardEntries();
+    final SaveData save = SaveData.capture(game, journal.onSnapshot());
+    final int snapshotId = journal.getSnapshotId();
+    WRITER.execute(new Runnable() {
+      @Override
+      public void run() {
+        if (!writeWorld0(save)) {
+          journal.onSnapshotFailed();
+          return;
+        }
+        journal.onSnapshotWritten(snapshotId);
+        FileManager.getInstance().getDynamicFile(JOURNAL_FILE_NAME).delete();
+      }
+    });
+  }
+
+  /**
+   * appends the changes since the last call to the journal in the background, which only takes a few small writes.
+   * Rewrites the whole snapshot instead when the journal got long
+   */
+  public static void flushJournal(SolGame game) {
+    final SaveJournal journal = game.getSaveJournal();
+    if (journal.needsCompaction()) {
+      writeWorld(game);
+      return;
+    }
+    final byte[] entries = journal.takeEntries(game);
+    if (entries == null) return;
+    final int snapshotId = journal.getSnapshotId();
+    WRITER.execute(new Runnable() {
+      @Override
+      public void run() {
+        // the entries refer to the ships of a snapshot which is not on disk
+        if (!journal.isWritten(snapshotId)) return;
+        try {
+          SaveJournal.append(FileManager.getInstance().getDynamicFile(JOURNAL_FILE_NAME), entries);
+        } catch (IOException e) {
+          Gdx.app.error("SaveManager", "could not write " + JOURNAL_FILE_NAME, e);
+        }
+      }
+    });
+  }
+
+  private static boolean writeWorld0(SaveData save) {
+    FileHandle tmp = FileManager.getInstance().getDynamicFile(WORLD_FILE_NAME + ".tmp");
+    DataOutputStream out = null;
+    try {
+      out = new DataOutputStream(new BufferedOutputStream(tmp.write(false)));
+      SaveSerializer.write(save, out);
+      out.close();
+      out = null;
+      // the previous snapshot stays intact until the new one is complete. FileHandle.moveTo falls back to copying
+      // over an existing file, which can tear it, so the old snapshot is renamed aside first
+      File target = FileManager.getInstance().getDynamicFile(WORLD_FILE_NAME).file();
+      File bak = FileManager.getInstance().getDynamicFile(WORLD_FILE_NAME + ".bak").file();
+      if (target.exists()) {
+        if (bak.exists() && !bak.delete()) throw new IOException("could not delete " + bak);
+        if (!target.renameTo(bak)) throw new IOException("could not rename " + target + " to " + bak);
+      }
+      if (!tmp.file().renameTo(target)) {
+        bak.renameTo(target);
+        throw new IOException("could not rename " + tmp.file() + " to " + target);
+      }
+      bak.delete();
+      return true;
+    } catch (IOException e) {
+      Gdx.app.error("SaveManager", "could not write " + WORLD_FILE_NAME, e);
+      return false;
+    } finally {
+      if (out != null) {
+        try {
+          out.close();
+        } catch (IOException ignored) {
+        }
+      }
+    }
+  }
+
+  public static boolean hasWorld() {
+    return getWorldFile().exists();
+  }
+
+  /**
+   * @return the snapshot file, or its backup if the game stopped while the snapshot was being replaced
+   */
+  private static FileHandle getWorldFile() {
+    FileHandle file = FileManager.getInstance().getDynamicFile(WORLD_FILE_NAME);
+    if (file.exists()) return file;
+    return FileManager.getInstance().getDynamicFile(WORLD_FILE_NAME + ".bak");
+  }
+
+  /**
+   * @return null if there is no snapshot or it can't be read
+   */
+  public static SaveData readWorld() {
+    FileHandle file = getWorldFile();
+    if (!file.exists()) return null;
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new BufferedInputStream(file.read()));
+      SaveData save = SaveSerializer.read(in);
+      if (save == null) return null;
+      return SaveJournal.replay(FileManager.getInstance().getDynamicFile(JOURNAL_FILE_NAME), save);
+    } catch (IOException e) {
+      Gdx.app.error("SaveManager", "could not read " + WORLD_FILE_NAME, e);
+      return null;
+    } finally {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException ignored) {
+        }
+      }
+    }
+  }
+
   public static ShipConfig readShip(HullConfigManager hullConfigs, ItemManager itemManager) {
     IniReader ir = new IniReader(FILE_NAME, null, false);
     String hullName = ir.s("hull", null);
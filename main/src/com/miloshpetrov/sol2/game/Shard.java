@@ -2,7 +2,6 @@ package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.dra.Dra;
 
@@ -53,7 +52,7 @@ public class Shard implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
   }
@@ -90,7 +89,7 @@ public class Shard implements SolObject {
 
   @Override
   public void onRemove(SolGame game) {
-    myBody.getWorld().destroyBody(myBody);
+    game.getObjMan().getBodyPool().free(myBody);
   }
 
   @Override
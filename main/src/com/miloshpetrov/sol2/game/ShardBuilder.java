@@ -19,6 +19,8 @@ public class ShardBuilder {
   public static final float MIN_SCALE = .07f;
   public static final float MAX_SCALE = .12f;
   public static final float SIZE_TO_SHARD_COUNT = 13f;
+  // shard scales are snapped to a few steps, so the shard bodies can be pooled
+  private static final int SCALE_STEPS = 4;
 
   private final PathLoader myPathLoader;
   private final ArrayList<TextureAtlas.AtlasRegion> myTexs;
@@ -39,14 +41,14 @@ public class ShardBuilder {
   public Shard build(SolGame game, Vector2 basePos, Vector2 baseSpd, float size) {
 
     ArrayList<Dra> dras = new ArrayList<Dra>();
-    float scale = SolMath.rnd(MIN_SCALE, MAX_SCALE);
+    float scale = MIN_SCALE + (MAX_SCALE - MIN_SCALE) * SolMath.intRnd(0, SCALE_STEPS) / SCALE_STEPS;
     TextureAtlas.AtlasRegion tex = SolMath.elemRnd(myTexs);
     float spdAngle = SolMath.rnd(180);
     Vector2 pos = new Vector2();
     SolMath.fromAl(pos, spdAngle, SolMath.rnd(size));
     pos.add(basePos);
     Body body = myPathLoader.getBodyAndSprite(game, "smallGameObjs", AsteroidBuilder.removePath(tex.name) + "_" + tex.index, scale,
-      BodyDef.BodyType.DynamicBody, pos, SolMath.rnd(180), dras, ShipBuilder.SHIP_DENSITY, DraLevel.PROJECTILES, tex);
+      BodyDef.BodyType.DynamicBody, pos, SolMath.rnd(180), dras, ShipBuilder.SHIP_DENSITY, DraLevel.PROJECTILES, tex, true);
 
     body.setAngularVelocity(SolMath.rnd(MAX_ROT_SPD));
     Vector2 spd = SolMath.fromAl(spdAngle, SolMath.rnd(MAX_SPD));
@@ -1,9 +1,14 @@
 package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.physics.box2d.ContactFilter;
+import com.badlogic.gdx.physics.box2d.Filter;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.miloshpetrov.sol2.game.projectile.Projectile;
 
+/**
+ * Fractions are encoded in the fixture filter bits, see {@link CollisionBits}. The game objects are looked at only
+ * when a projectile reaches a shield, whether the shield stops it depends on the shield item. Group indices are not used.
+ */
 public class SolContactFilter implements ContactFilter {
   private final FractionMan myFractionMan;
 
@@ -13,15 +18,18 @@ public class SolContactFilter implements ContactFilter {
 
   @Override
   public boolean shouldCollide(Fixture fixtureA, Fixture fixtureB) {
-    SolObject oA = (SolObject) fixtureA.getBody().getUserData();
-    SolObject oB = (SolObject) fixtureB.getBody().getUserData();
+    Filter filterA = fixtureA.getFilterData();
+    Filter filterB = fixtureB.getFilterData();
+    if ((filterA.maskBits & filterB.categoryBits) == 0 || (filterB.maskBits & filterA.categoryBits) == 0) return false;
 
-    boolean aIsProj = oA instanceof Projectile;
-    if (!aIsProj && !(oB instanceof Projectile)) return true;
+    boolean aIsProj = CollisionBits.isProjectile(filterA.categoryBits);
+    short otherCategory = aIsProj ? filterB.categoryBits : filterA.categoryBits;
+    if (!CollisionBits.isShield(otherCategory)) return true;
+    if (!aIsProj && !CollisionBits.isProjectile(filterB.categoryBits)) return true;
 
-    Projectile proj = (Projectile)(aIsProj ? oA : oB);
-    SolObject o = aIsProj ? oB : oA;
+    Projectile proj = (Projectile) (aIsProj ? fixtureA : fixtureB).getBody().getUserData();
     Fixture f = aIsProj ? fixtureB : fixtureA;
+    SolObject o = ObjectManager.getObj(f);
     return proj.shouldCollide(o, f, myFractionMan);
   }
 }
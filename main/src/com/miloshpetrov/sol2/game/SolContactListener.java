@@ -5,17 +5,47 @@ import com.badlogic.gdx.physics.box2d.*;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.projectile.Projectile;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collisions are only recorded while the world steps. All contacts of a pair of objects during one step are merged
+ * into one event, the events are dispatched by {@link #dispatch()} after the step. The damage of an event comes from
+ * the sum of the contact impulses, as if each contact was handled on its own, while the collision sound and the
+ * contact point come from the strongest contact.
+ */
 public class SolContactListener implements ContactListener {
   private final SolGame myGame;
+  private final Vector2 myCollPos;
+
+  private SolObject[] myObjsA;
+  private SolObject[] myObjsB;
+  private float[] myImpulses;
+  private float[] myMaxImpulses;
+  private float[] myPosXs;
+  private float[] myPosYs;
+  // events are chained by their first object: object -> its latest event, event -> previous event of that object
+  private final Map<SolObject, Integer> myLastEvents;
+  private int[] myPrevEvents;
+  private int myEventCount;
 
   public SolContactListener(SolGame game) {
     myGame = game;
+    myCollPos = new Vector2();
+    myObjsA = new SolObject[32];
+    myObjsB = new SolObject[32];
+    myImpulses = new float[32];
+    myMaxImpulses = new float[32];
+    myPosXs = new float[32];
+    myPosYs = new float[32];
+    myLastEvents = new IdentityHashMap<SolObject, Integer>();
+    myPrevEvents = new int[32];
   }
 
   @Override
   public void beginContact(Contact contact) {
-    SolObject oA = (SolObject) contact.getFixtureA().getBody().getUserData();
-    SolObject oB = (SolObject) contact.getFixtureB().getBody().getUserData();
+    SolObject oA = ObjectManager.getObj(contact.getFixtureA());
+    SolObject oB = ObjectManager.getObj(contact.getFixtureB());
 
     boolean aIsProj = oA instanceof Projectile;
     if (!aIsProj && !(oB instanceof Projectile)) return;
@@ -35,17 +65,93 @@ public class SolContactListener implements ContactListener {
 
   @Override
   public void postSolve(Contact contact, ContactImpulse impulse) {
-    SolObject soa = (SolObject) contact.getFixtureA().getBody().getUserData();
-    SolObject sob = (SolObject) contact.getFixtureB().getBody().getUserData();
+    SolObject soa = ObjectManager.getObj(contact.getFixtureA());
+    SolObject sob = ObjectManager.getObj(contact.getFixtureB());
     if (soa instanceof Projectile && ((Projectile) soa).getConfig().density <= 0) return;
     if (sob instanceof Projectile && ((Projectile) sob).getConfig().density <= 0) return;
 
     float absImpulse = calcAbsImpulse(impulse);
+    int idx = findEvent(soa, sob);
+    if (idx < 0) {
+      if (myEventCount == myObjsA.length) grow();
+      idx = myEventCount++;
+      myObjsA[idx] = soa;
+      myObjsB[idx] = sob;
+      myImpulses[idx] = 0;
+      myMaxImpulses[idx] = -1;
+      Integer prev = myLastEvents.put(soa, idx);
+      myPrevEvents[idx] = prev == null ? -1 : prev;
+    }
+    myImpulses[idx] += absImpulse;
+    // the contact point is only fetched for the strongest contact of the pair
+    if (absImpulse <= myMaxImpulses[idx]) return;
     Vector2 collPos = contact.getWorldManifold().getPoints()[0];
-    soa.handleContact(sob, impulse, true, absImpulse, myGame, collPos);
-    sob.handleContact(soa, impulse, false, absImpulse, myGame, collPos);
-    myGame.getSpecialSounds().playColl(myGame, absImpulse, soa, collPos);
-    myGame.getSpecialSounds().playColl(myGame, absImpulse, sob, collPos);
+    myMaxImpulses[idx] = absImpulse;
+    myPosXs[idx] = collPos.x;
+    myPosYs[idx] = collPos.y;
+  }
+
+  private int findEvent(SolObject soa, SolObject sob) {
+    int res = findEvent0(soa, sob);
+    return res >= 0 ? res : findEvent0(sob, soa);
+  }
+
+  /**
+   * walks only the events whose first object is soa, an object rarely touches more than a few others in a step
+   */
+  private int findEvent0(SolObject soa, SolObject sob) {
+    Integer last = myLastEvents.get(soa);
+    if (last == null) return -1;
+    for (int i = last; i >= 0; i = myPrevEvents[i]) {
+      if (myObjsB[i] == sob) return i;
+    }
+    return -1;
+  }
+
+  private void grow() {
+    int sz = myObjsA.length * 2;
+    SolObject[] objsA = new SolObject[sz];
+    SolObject[] objsB = new SolObject[sz];
+    float[] impulses = new float[sz];
+    float[] maxImpulses = new float[sz];
+    int[] prevEvents = new int[sz];
+    float[] posXs = new float[sz];
+    float[] posYs = new float[sz];
+    System.arraycopy(myObjsA, 0, objsA, 0, myEventCount);
+    System.arraycopy(myObjsB, 0, objsB, 0, myEventCount);
+    System.arraycopy(myImpulses, 0, impulses, 0, myEventCount);
+    System.arraycopy(myMaxImpulses, 0, maxImpulses, 0, myEventCount);
+    System.arraycopy(myPrevEvents, 0, prevEvents, 0, myEventCount);
+    System.arraycopy(myPosXs, 0, posXs, 0, myEventCount);
+    System.arraycopy(myPosYs, 0, posYs, 0, myEventCount);
+    myObjsA = objsA;
+    myObjsB = objsB;
+    myImpulses = impulses;
+    myMaxImpulses = maxImpulses;
+    myPrevEvents = prevEvents;
+    myPosXs = posXs;
+    myPosYs = posYs;
+  }
+
+  /**
+   * applies crash damage and plays collision sounds of the contacts recorded during the last world step
+   */
+  public void dispatch() {
+    for (int i = 0; i < myEventCount; i++) {
+      SolObject soa = myObjsA[i];
+      SolObject sob = myObjsB[i];
+      float absImpulse = myImpulses[i];
+      float maxImpulse = myMaxImpulses[i];
+      myCollPos.set(myPosXs[i], myPosYs[i]);
+      soa.handleContact(sob, true, absImpulse, myGame, myCollPos);
+      sob.handleContact(soa, false, absImpulse, myGame, myCollPos);
+      myGame.getSpecialSounds().playColl(myGame, maxImpulse, soa, myCollPos);
+      myGame.getSpecialSounds().playColl(myGame, maxImpulse, sob, myCollPos);
+      myObjsA[i] = null;
+      myObjsB[i] = null;
+    }
+    myEventCount = 0;
+    myLastEvents.clear();
   }
 
   private float calcAbsImpulse(ContactImpulse impulse) {
@@ -1,5 +1,6 @@
 package com.miloshpetrov.sol2.game;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.miloshpetrov.sol2.*;
@@ -24,12 +25,15 @@ import com.miloshpetrov.sol2.game.ship.hulls.HullConfig;
 import com.miloshpetrov.sol2.game.sound.SoundManager;
 import com.miloshpetrov.sol2.game.sound.SpecialSounds;
 import com.miloshpetrov.sol2.GameOptions;
+import com.miloshpetrov.sol2.save.SaveData;
+import com.miloshpetrov.sol2.save.SaveJournal;
 import com.miloshpetrov.sol2.ui.*;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class SolGame {
+  private static final float AUTOSAVE_PERIOD = 10f;
 
   private final GameScreens myScreens;
   private final SolCam myCam;
@@ -75,27 +79,37 @@ public class SolGame {
   private float myRespawnMoney;
   private HullConfig myRespawnHull;
   private final ArrayList<SolItem> myRespawnItems;
+  private final SaveJournal mySaveJournal;
+  private final GameTexIds myTexIds;
+  private float myAutosaveAwait;
 
   public SolGame(SolApplication cmp, boolean usePrevShip, TextureManager textureManager, boolean tut, CommonDrawer commonDrawer) {
     myCmp = cmp;
+    long t = System.nanoTime();
     GameDrawer drawer = new GameDrawer(textureManager, commonDrawer);
     gameColors = new GameColors();
     mySoundManager = new SoundManager();
     mySpecialSounds = new SpecialSounds(mySoundManager);
+    t = logLoadTime("sounds", t);
     myDraMan = new DraMan(drawer);
     myCam = new SolCam(drawer.r);
     myScreens = new GameScreens(drawer.r, cmp);
     myTutorialManager = tut ? new TutorialManager(commonDrawer.r, myScreens, cmp.isMobile(), cmp.getOptions()) : null;
     myTextureManager = textureManager;
+    myTexIds = new GameTexIds(textureManager);
     myFarBackgroundManagerOld = new FarBackgroundManagerOld(myTextureManager);
+    t = logLoadTime("screens", t);
     myShipBuilder = new ShipBuilder();
     myEffectTypes = new EffectTypes();
     mySpecialEffects = new SpecialEffects(myEffectTypes, myTextureManager, gameColors);
     myItemManager = new ItemManager(myTextureManager, mySoundManager, myEffectTypes, gameColors);
+    t = logLoadTime("items", t);
     myAbilityCommonConfigs = new AbilityCommonConfigs(myEffectTypes, myTextureManager, gameColors, mySoundManager);
     hullConfigManager = new HullConfigManager(myShipBuilder, FileManager.getInstance(), textureManager, myItemManager, myAbilityCommonConfigs, mySoundManager);
+    t = logLoadTime("hulls", t);
     myNames = new SolNames();
     myPlanetManager = new PlanetManager(myTextureManager, hullConfigManager, gameColors, myItemManager);
+    t = logLoadTime("planets", t);
     SolContactListener contactListener = new SolContactListener(this);
     myFractionMan = new FractionMan(myTextureManager);
     myObjectManager = new ObjectManager(contactListener, myFractionMan);
@@ -115,18 +129,47 @@ public class SolGame {
     myMountDetectDrawer = new MountDetectDrawer(textureManager);
     myRespawnItems = new ArrayList<SolItem>();
     myTimeFactor = 1;
+    mySaveJournal = new SaveJournal();
+    myAutosaveAwait = AUTOSAVE_PERIOD;
+    t = logLoadTime("other managers", t);
 
     // from this point we're ready!
-    myPlanetManager.fill(myNames);
-    myGalaxyFiller.fill(this);
-    ShipConfig startingShip = usePrevShip ? SaveManager.readShip(hullConfigManager, myItemManager) : null;
-    createPlayer(startingShip);
+    SaveData save = usePrevShip && !tut ? SaveManager.readWorld() : null;
+    Vector2 heroPos = null;
+    ShipConfig startingShip = null;
+    if (save != null) {
+      myPlanetManager.restore(save);
+      myGalaxyFiller.restore(this, save);
+      myTime = save.time;
+      SaveData.ShipData hero = save.hero;
+      HullConfig heroHull = hero == null ? null : hullConfigManager.getConfig(hero.hullName);
+      if (heroHull != null) {
+        heroPos = new Vector2(hero.x, hero.y);
+        startingShip = new ShipConfig(heroHull, hero.items, (int) hero.money, 1, null, myItemManager);
+      }
+    } else {
+      myPlanetManager.fill(myNames);
+      myGalaxyFiller.fill(this);
+    }
+    t = logLoadTime("galaxy", t);
+    if (startingShip == null && usePrevShip) startingShip = SaveManager.readShip(hullConfigManager, myItemManager);
+    createPlayer(startingShip, heroPos);
+    if (save != null) myGalaxyFiller.restoreHeroGuards(this, save, myHero);
+    // the journal refers to the ships of the latest snapshot, so start with a fresh one
+    if (myTutorialManager == null) SaveManager.writeWorld(this);
+    logLoadTime("hero", t);
     SolMath.checkVectorsTaken(null);
   }
 
+  private static long logLoadTime(String step, long start) {
+    long now = System.nanoTime();
+    Gdx.app.debug("SolGame", step + " loaded in " + (now - start) / 1000000 + "ms");
+    return now;
+  }
+
   // uh, this needs refactoring
-  private void createPlayer(ShipConfig prevShip) {
-    Vector2 pos = myGalaxyFiller.getPlayerSpawnPos(this);
+  private void createPlayer(ShipConfig prevShip, Vector2 savedPos) {
+    Vector2 pos = savedPos != null ? savedPos : myGalaxyFiller.getPlayerSpawnPos(this);
     myCam.setPos(pos);
 
     Pilot pilot;
@@ -181,10 +224,16 @@ public class SolGame {
 
   public void onGameEnd() {
     saveShip();
+    saveWorld();
     myObjectManager.dispose();
     mySoundManager.dispose();
   }
 
+  public void saveWorld() {
+    if (myTutorialManager != null) return;
+    SaveManager.flushJournal(this);
+  }
+
   public void saveShip() {
     if (myTutorialManager != null) return;
     HullConfig hull;
@@ -247,6 +296,13 @@ public class SolGame {
     mySoundManager.update(this);
     myBeaconHandler.update(this);
 
+    mySaveJournal.update(this);
+    myAutosaveAwait -= myTimeStep;
+    if (myAutosaveAwait <= 0) {
+      myAutosaveAwait = AUTOSAVE_PERIOD;
+      saveWorld();
+    }
+
     myHero = null;
     myTranscendentHero = null;
     List<SolObject> objs = myObjectManager.getObjs();
@@ -368,7 +424,7 @@ public class SolGame {
       setRespawnState(farH.getMoney(), farH.getIc(), farH.getHullConfig());
       myObjectManager.removeObjDelayed(myTranscendentHero);
     }
-    createPlayer(null);
+    createPlayer(null, null);
   }
 
   public FractionMan getFractionMan() {
@@ -383,11 +439,12 @@ public class SolGame {
     }
     SolSystem ns = myPlanetManager.getNearestSystem(pos);
     if (ns.getPos().dst(pos) < SunSingleton.SUN_HOT_RAD) return false;
-    List<SolObject> objs = myObjectManager.getObjs();
-    for (int i = 0, objsSize = objs.size(); i < objsSize; i++) {
-      SolObject o = objs.get(i);
+    List<ObjData> objDatas = myObjectManager.getObjDatas();
+    for (int i = 0, objsSize = objDatas.size(); i < objsSize; i++) {
+      ObjData od = objDatas.get(i);
+      SolObject o = od.o;
       if (!o.hasBody()) continue;
-      if (pos.dst(o.getPos()) < myObjectManager.getRadius(o)) {
+      if (pos.dst(o.getPos()) < od.radius) {
         return false;
       }
     }
@@ -431,6 +488,14 @@ public class SolGame {
     return myGridDrawer;
   }
 
+  public GameTexIds getTexIds() {
+    return myTexIds;
+  }
+
+  public SaveJournal getSaveJournal() {
+    return mySaveJournal;
+  }
+
   public SoundManager getSoundMan() {
     return mySoundManager;
   }
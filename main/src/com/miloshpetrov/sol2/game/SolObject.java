@@ -1,7 +1,6 @@
 package com.miloshpetrov.sol2.game;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.common.Nullable;
 import com.miloshpetrov.sol2.game.dra.Dra;
 
@@ -19,7 +18,7 @@ public interface SolObject {
   List<Dra> getDras();
   float getAngle();
   Vector2 getSpd();
-  void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse, SolGame game,
+  void handleContact(SolObject other, boolean isA, float absImpulse, SolGame game,
     Vector2 collPos);
   String toDebugString();
   Boolean isMetal();
@@ -69,7 +69,7 @@ public class StarPort implements SolObject {
   }
 
   private static void blip(SolGame game, SolShip ship) {
-    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex(Teleport.TEX_PATH, null);
+    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex(game.getTexIds().teleportBlip);
     float blipSz = ship.getHull().config.getApproxRadius() * 10;
     game.getPartMan().blip(game, ship.getPos(), SolMath.rnd(180), blipSz, 1, Vector2.Zero, tex);
   }
@@ -130,7 +130,7 @@ public class StarPort implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
 
@@ -187,7 +187,7 @@ public class StarPort implements SolObject {
       Vector2 pos = getDesiredPos(from, to, false);
       ArrayList<Dra> dras = new ArrayList<Dra>();
       Body body = myLoader.getBodyAndSprite(game, "smallGameObjs", "starPort", SIZE,
-        BodyDef.BodyType.KinematicBody, new Vector2(pos), angle, dras, 10f, DraLevel.BIG_BODIES, null);
+        BodyDef.BodyType.KinematicBody, new Vector2(pos), angle, dras, 10f, DraLevel.BIG_BODIES, null, false);
       SolMath.free(pos);
       ArrayList<LightSrc> lights = new ArrayList<LightSrc>();
       addFlow(game, pos, dras, 0, lights);
@@ -307,7 +307,7 @@ public class StarPort implements SolObject {
       mySpd = new Vector2();
       myDestPos = new Vector2();
 
-      RectSprite s = new RectSprite(game.getTexMan().getTex("smallGameObjs/transcendent", null), TRAN_SZ, .3f, 0, new Vector2(), DraLevel.PROJECTILES, 0, 0, SolColor.W, false);
+      RectSprite s = new RectSprite(game.getTexMan().getTex(game.getTexIds().transcendent), TRAN_SZ, .3f, 0, new Vector2(), DraLevel.PROJECTILES, 0, 0, SolColor.W, false);
       myDras = new ArrayList<Dra>();
       myDras.add(s);
       EffectConfig eff = game.getSpecialEffects().transcendentWork;
@@ -408,7 +408,7 @@ public class StarPort implements SolObject {
     }
 
     @Override
-    public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+    public void handleContact(SolObject other, boolean isA, float absImpulse,
       SolGame game, Vector2 collPos)
     {
     }
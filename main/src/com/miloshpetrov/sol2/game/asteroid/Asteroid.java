@@ -3,7 +3,6 @@ package com.miloshpetrov.sol2.game.asteroid;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.*;
 import com.miloshpetrov.sol2.game.dra.Dra;
@@ -85,7 +84,7 @@ public class Asteroid implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
     float dmg;
@@ -146,7 +145,7 @@ public class Asteroid implements SolObject {
   public void onRemove(SolGame game) {
     game.getPartMan().finish(game, mySmokeSrc, myPos);
     game.getPartMan().finish(game, myFireSrc, myPos);
-    myBody.getWorld().destroyBody(myBody);
+    game.getObjMan().getBodyPool().free(myBody);
     if (myLife <= 0) {
       game.getSpecialEffects().asteroidDust(game, myPos, mySpd, mySize);
       float vol = SolMath.clamp(mySize/.5f);
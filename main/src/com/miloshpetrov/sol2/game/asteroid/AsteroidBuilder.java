@@ -15,6 +15,8 @@ import java.util.ArrayList;
 public class AsteroidBuilder {
   private static final float MAX_A_ROT_SPD = .5f;
   private static final float MAX_BALL_SZ = .2f;
+  // ball sizes are snapped to this step, so the ball bodies can be pooled
+  private static final float BALL_SZ_STEP = .02f;
   public static final float DENSITY = 10f;
 
   private final PathLoader myPathLoader;
@@ -44,9 +46,10 @@ public class AsteroidBuilder {
     Body body;
     if (MAX_BALL_SZ < sz) {
       body = myPathLoader.getBodyAndSprite(game, "asteroids", removePath(tex.name) + "_" + tex.index, sz,
-        BodyDef.BodyType.DynamicBody, pos, angle, dras, DENSITY, DraLevel.BODIES, tex);
+        BodyDef.BodyType.DynamicBody, pos, angle, dras, DENSITY, DraLevel.BODIES, tex, false);
     } else {
-      body = buildBall(game, pos, angle, sz/2, DENSITY, false);
+      sz = Math.max(BALL_SZ_STEP, Math.round(sz / BALL_SZ_STEP) * BALL_SZ_STEP);
+      body = buildBall(game, pos, angle, sz/2, DENSITY, false, CollisionBits.OBSTACLE, CollisionBits.ALL);
       RectSprite s = new RectSprite(tex, sz, 0, 0, new Vector2(), DraLevel.BODIES, 0, 0, SolColor.W, false);
       dras.add(s);
     }
@@ -63,7 +66,13 @@ public class AsteroidBuilder {
     return parts[parts.length - 1];
   }
 
-  public static Body buildBall(SolGame game, Vector2 pos, float angle, float rad, float density, boolean sensor) {
+  public static Body buildBall(SolGame game, Vector2 pos, float angle, float rad, float density, boolean sensor,
+    short category, short mask)
+  {
+    BodyPool pool = game.getObjMan().getBodyPool();
+    String poolKey = "ball " + rad + " " + density + " " + sensor + " " + category + " " + mask;
+    Body pooled = pool.obtain(poolKey, pos, angle);
+    if (pooled != null) return pooled;
     BodyDef bd = new BodyDef();
     bd.type = BodyDef.BodyType.DynamicBody;
     bd.angle = angle * SolMath.degRad;
@@ -77,8 +86,11 @@ public class AsteroidBuilder {
     fd.shape = new CircleShape();
     fd.shape.setRadius(rad);
     fd.isSensor = sensor;
+    fd.filter.categoryBits = category;
+    fd.filter.maskBits = mask;
     body.createFixture(fd);
     fd.shape.dispose();
+    pool.register(body, poolKey);
     return body;
   }
 }
@@ -1,5 +1,6 @@
 package com.miloshpetrov.sol2.game.chunk;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.miloshpetrov.sol2.Const;
@@ -233,6 +234,7 @@ public class ChunkFiller {
 
     ArrayList<Dra> dras = new ArrayList<Dra>();
     TextureManager textureManager = game.getTexMan();
+    Vector2 noSpd = new Vector2();
 
     for (int i = 0; i < count; i++) {
       // Select a random far junk texture
@@ -247,13 +249,12 @@ public class ChunkFiller {
       Vector2 junkPos = getRndPos(chCenter);
       junkPos.sub(chCenter);
 
-      // Create the resulting sprite and add it to the list
-      RectSprite s = new RectSprite(tex, sz, 0, 0, junkPos, draLevel, SolMath.rnd(180), rotSpd, SolColor.DDG, false);
-      dras.add(s);
+      // Add the resulting sprite to the layer of its texture
+      addToLayer(game, dras, tex, draLevel, sz, junkPos, SolMath.rnd(180), rotSpd, noSpd, SolColor.DDG);
     }
 
-    // Create a common FarDras instance for the pieces of junk and only allow the junk to be drawn when it's not hidden by a planet
-    FarDras so = new FarDras(dras, new Vector2(chCenter), new Vector2(), remover, true);
+    // Create a common FarDras instance for the pieces of junk, the layers hide the junk themselves when it's behind a planet
+    FarDras so = new FarDras(dras, new Vector2(chCenter), new Vector2(), remover, false);
     // Add the collection of objects to the object manager
     game.getObjMan().addFarObjNow(so);
   }
@@ -274,9 +275,11 @@ public class ChunkFiller {
     int count = getEntityCount(conf.junkDensity);
     if (count == 0) return;
 
+    ArrayList<Dra> dras = new ArrayList<Dra>();
     for (int i = 0; i < count; i++) {
-      // Select a random position in the chunk centered around chCenter, relative to the entire map.
+      // Select a random position in the chunk centered around chCenter, relative to the position of the chunk.
       Vector2 junkPos = getRndPos(chCenter);
+      junkPos.sub(chCenter);
 
       // Select a random junk texture
       TextureAtlas.AtlasRegion tex = SolMath.elemRnd(conf.junkTexs);
@@ -287,18 +290,17 @@ public class ChunkFiller {
       // Apply a random rotation speed
       float rotSpd = SolMath.rnd(JUNK_MAX_ROT_SPD);
 
-      // Create the resulting sprite and add it to the list as the only element
-      RectSprite s = new RectSprite(tex, sz, 0, 0, new Vector2(), DraLevel.DECO, SolMath.rnd(180), rotSpd, SolColor.LG, false);
-      ArrayList<Dra> dras = new ArrayList<Dra>();
-      dras.add(s);
-
-      // Create a FarDras instance for this piece of junk and only allow it to be drawn when it's not hidden by a planet
+      // Each piece of junk floats in its own direction, the layer moves it from the time it was created
       Vector2 spd = new Vector2();
       SolMath.fromAl(spd, SolMath.rnd(180), SolMath.rnd(JUNK_MAX_SPD_LEN));
-      FarDras so = new FarDras(dras, junkPos, spd, remover, true);
-      // Add the object to the object manager
-      game.getObjMan().addFarObjNow(so);
+      // Add the resulting sprite to the layer of its texture
+      addToLayer(game, dras, tex, DraLevel.DECO, sz, junkPos, SolMath.rnd(180), rotSpd, spd, SolColor.LG);
     }
+
+    // Create a common FarDras instance for the pieces of junk, the layers hide the junk themselves when it's behind a planet
+    FarDras so = new FarDras(dras, new Vector2(chCenter), new Vector2(), remover, false);
+    // Add the object to the object manager
+    game.getObjMan().addFarObjNow(so);
   }
 
   /**
@@ -316,20 +318,48 @@ public class ChunkFiller {
     if (count == 0) return;
 
     TextureAtlas.AtlasRegion tex = myDustTex;
+    SpriteLayer layer = new SpriteLayer(tex, DraLevel.DECO, true, game.getTime(), Const.CHUNK_SIZE);
+    Vector2 noSpd = new Vector2();
     for (int i = 0; i < count; i++) {
       // Select a random position in the chunk centered around chCenter, relative to the position of the chunk.
       Vector2 dustPos = getRndPos(chCenter);
       dustPos.sub(chCenter);
-      // Create the resulting sprite and add it to the list
-      RectSprite s = new RectSprite(tex, DUST_SZ, 0, 0, dustPos, DraLevel.DECO, 0, 0, SolColor.W, false);
-      dras.add(s);
+      // Add the resulting sprite to the layer
+      layer.add(tex, DUST_SZ, 0, 0, dustPos, 0, 0, noSpd, SolColor.W);
     }
+    dras.add(layer);
 
-    // Create a common FarDras instance for the specks of dust and only allow the dust to be drawn when it's not hidden by a planet
-    FarDras so = new FarDras(dras, chCenter, new Vector2(), remover, true);
+    // Create a common FarDras instance for the specks of dust, the layer hides the dust itself when it's behind a planet
+    FarDras so = new FarDras(dras, chCenter, new Vector2(), remover, false);
     game.getObjMan().addFarObjNow(so);
   }
 
+  /**
+   * Add a sprite to the {@link SpriteLayer} of its texture, so that each texture of a chunk layer is drawn at once.
+   *
+   * @param game   The {@link SolGame} instance to work with
+   * @param layers The layers of the chunk and level, a new layer is added if none has the texture of the sprite
+   * @param relPos The position of the sprite relative to the center of the chunk
+   * @param spd    The floating speed of the sprite
+   */
+  private void addToLayer(SolGame game, ArrayList<Dra> layers, TextureAtlas.AtlasRegion tex, DraLevel draLevel,
+                          float sz, Vector2 relPos, float angle, float rotSpd, Vector2 spd, Color tint) {
+    SpriteLayer layer = null;
+    for (int i = 0, layerCount = layers.size(); i < layerCount; i++) {
+      SpriteLayer l = (SpriteLayer) layers.get(i);
+      if (l.getTex0() == tex.getTexture()) {
+        layer = l;
+        break;
+      }
+    }
+    if (layer == null) {
+      // drifting junk wraps around inside the chunk instead of leaving it
+      layer = new SpriteLayer(tex, draLevel, true, game.getTime(), Const.CHUNK_SIZE);
+      layers.add(layer);
+    }
+    layer.add(tex, sz, 0, 0, relPos, angle, rotSpd, spd, tint);
+  }
+
   /**
    * Find a random position in a chunk centered around chCenter, relative to the entire map, and make sure it is not yet
    * occupied by another entity.
@@ -83,11 +83,12 @@ public class DraMan {
     float viewDist = cam.getViewDist();
 
     ObjectManager objectManager = game.getObjMan();
-    List<SolObject> objs = objectManager.getObjs();
-    for (int i1 = 0, objsSize = objs.size(); i1 < objsSize; i1++) {
-      SolObject o = objs.get(i1);
+    List<ObjData> objDatas = objectManager.getObjDatas();
+    for (int i1 = 0, objsSize = objDatas.size(); i1 < objsSize; i1++) {
+      ObjData od = objDatas.get(i1);
+      SolObject o = od.o;
       Vector2 objPos = o.getPos();
-      float r = objectManager.getPresenceRadius(o);
+      float r = objectManager.getPresenceRadius(od);
       List<Dra> dras = o.getDras();
       float draLevelViewDist = viewDist;
       if (dras.size() > 0) draLevelViewDist *= dras.get(0).getLevel().depth;
@@ -1,7 +1,6 @@
 package com.miloshpetrov.sol2.game.dra;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.Consumed;
 import com.miloshpetrov.sol2.common.SolMath;
@@ -129,7 +128,7 @@ public class DrasObject implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
   }
@@ -28,6 +28,8 @@ public class RectSprite implements Dra {
   private float myOrigX;
   private float myOrigY;
   private float myRadius;
+  private float myTexSz;
+  private float myMaxTexSz;
   private float myAngle;
   private boolean myEnabled;
   private final boolean myAdditive;
@@ -58,6 +60,8 @@ public class RectSprite implements Dra {
   }
 
   public void setTexSz(float texSz) {
+    myTexSz = texSz;
+    myRadius = calcRadius(texSz < myMaxTexSz ? myMaxTexSz : texSz);
     texSz /= myLevel.depth;
     int r = myTex.getRegionWidth() / myTex.getRegionHeight();
     if (r > 1) {
@@ -69,10 +73,25 @@ public class RectSprite implements Dra {
     }
     myOrigX = myTexSzX / 2 + texSz * myOrigPercX;
     myOrigY = myTexSzY / 2 + texSz * myOrigPercY;
+  }
+
+  private float calcRadius(float texSz) {
+    texSz /= myLevel.depth;
+    int r = myTex.getRegionWidth() / myTex.getRegionHeight();
+    float szX = r > 1 ? texSz : texSz / r;
+    float szY = r > 1 ? texSz / r : texSz;
+    float rx = szX / 2 + texSz * SolMath.abs(myOrigPercX);
+    float ry = szY / 2 + texSz * SolMath.abs(myOrigPercY);
+    return SolMath.sqrt(rx * rx + ry * ry);
+  }
 
-    float rx = myTexSzX / 2 + texSz * SolMath.abs(myOrigPercX);
-    float ry = myTexSzY / 2 + texSz * SolMath.abs(myOrigPercY);
-    myRadius = SolMath.sqrt(rx * rx + ry * ry);
+  /**
+   * the radius covers the sprite at this size even when it is smaller, so a sprite which pulses below it doesn't
+   * change the radius of its object
+   */
+  public void setMaxTexSz(float maxTexSz) {
+    myMaxTexSz = maxTexSz;
+    setTexSz(myTexSz);
   }
 
   public Texture getTex0() {
@@ -0,0 +1,319 @@
+package com.miloshpetrov.sol2.game.dra;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.Const;
+import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.*;
+import com.miloshpetrov.sol2.game.planet.Planet;
+
+import java.util.Arrays;
+
+/**
+ * Many small sprites of one texture drawn with a single batch call, for decorations which would otherwise be hundreds
+ * of {@link RectSprite}s, each culled and drawn on its own. The sprites are stored in flat arrays relative to the owner.
+ * Their drift and rotation are computed from the time since the layer was built, so they need no per-sprite update.
+ * Drifting sprites wrap around inside a square of wrapSz around the owner and fade out near its edges, so the layer
+ * keeps a fixed reach. The layer is culled as a whole.
+ */
+public class SpriteLayer implements Dra {
+  private static final int VERTEX_SZ = 5;
+  private static final int SPRITE_SZ = 4 * VERTEX_SZ;
+  // part of the wrap square over which drifting sprites fade out before they wrap around
+  private static final float WRAP_FADE_PERC = .05f;
+
+  private final Texture myTex0;
+  private final TextureAtlas.AtlasRegion myTex;
+  private final DraLevel myLevel;
+  private final boolean myHideOnPlanet;
+  private final float myStartTime;
+  private final float myWrapSz;
+  private final Vector2 myPos;
+  private final Vector2 myRelPos;
+
+  private int mySize;
+  // per sprite: position relative to the owner, drift speed, angle, rotation speed, origin, size, tex coords, tint
+  private float[] myRelXs;
+  private float[] myRelYs;
+  private float[] mySpdXs;
+  private float[] mySpdYs;
+  private float[] myAngles;
+  private float[] myRotSpds;
+  private float[] myOrigXs;
+  private float[] myOrigYs;
+  private float[] myWidths;
+  private float[] myHeights;
+  private float[] myUvs;
+  private Color[] myTints;
+  private float[] myAlphas;
+  private float[] myVerts;
+
+  private float myRadius;
+  private boolean myRadiusChanged;
+  private boolean myDrifting;
+  private boolean myMoving;
+  private float myBaseAngle;
+  private float myAge;
+  private boolean myFaded;
+  // last values the vertices were computed for, a layer which doesn't move is only recomputed when these change
+  private float myVertsX;
+  private float myVertsY;
+  private float myVertsAngle;
+  private boolean myVertsDirty;
+
+  /**
+   * @param wrapSz size of the square around the owner which drifting sprites wrap around in, 0 if no sprite drifts
+   */
+  public SpriteLayer(TextureAtlas.AtlasRegion tex, DraLevel level, boolean hideOnPlanet, float startTime, float wrapSz) {
+    myTex = tex;
+    myTex0 = tex.getTexture();
+    myLevel = level;
+    myHideOnPlanet = hideOnPlanet;
+    myStartTime = startTime;
+    myWrapSz = wrapSz;
+    myPos = new Vector2();
+    myRelPos = new Vector2();
+    myMoving = level.depth != 1;
+    myVertsDirty = true;
+    allocate(16);
+  }
+
+  private void allocate(int sz) {
+    myRelXs = copy(myRelXs, sz);
+    myRelYs = copy(myRelYs, sz);
+    mySpdXs = copy(mySpdXs, sz);
+    mySpdYs = copy(mySpdYs, sz);
+    myAngles = copy(myAngles, sz);
+    myRotSpds = copy(myRotSpds, sz);
+    myOrigXs = copy(myOrigXs, sz);
+    myOrigYs = copy(myOrigYs, sz);
+    myWidths = copy(myWidths, sz);
+    myHeights = copy(myHeights, sz);
+    myUvs = copy(myUvs, sz * 4);
+    myAlphas = copy(myAlphas, sz);
+    myTints = myTints == null ? new Color[sz] : Arrays.copyOf(myTints, sz);
+    myVerts = new float[sz * SPRITE_SZ];
+  }
+
+  private static float[] copy(float[] arr, int sz) {
+    return arr == null ? new float[sz] : Arrays.copyOf(arr, sz);
+  }
+
+  /**
+   * same parameters as in {@link RectSprite}, tex must be on the texture of this layer. Doesn't consume relPos and spd
+   */
+  public void add(TextureAtlas.AtlasRegion tex, float texSz, float origPercX, float origPercY, Vector2 relPos,
+    float relAngle, float rotSpd, Vector2 spd, Color tint)
+  {
+    if (tex.getTexture() != myTex0) throw new AssertionError("sprite texture differs from the layer texture");
+    if (mySize == myRelXs.length) allocate(mySize * 2);
+    int i = mySize++;
+    texSz /= myLevel.depth;
+    float w;
+    float h;
+    int r = tex.getRegionWidth() / tex.getRegionHeight();
+    if (r > 1) {
+      w = texSz;
+      h = texSz / r;
+    } else {
+      w = texSz / r;
+      h = texSz;
+    }
+    myRelXs[i] = relPos.x;
+    myRelYs[i] = relPos.y;
+    mySpdXs[i] = spd.x;
+    mySpdYs[i] = spd.y;
+    myAngles[i] = relAngle;
+    myRotSpds[i] = rotSpd;
+    myOrigXs[i] = w / 2 + texSz * origPercX;
+    myOrigYs[i] = h / 2 + texSz * origPercY;
+    myWidths[i] = w;
+    myHeights[i] = h;
+    myUvs[4 * i] = tex.getU();
+    myUvs[4 * i + 1] = tex.getV();
+    myUvs[4 * i + 2] = tex.getU2();
+    myUvs[4 * i + 3] = tex.getV2();
+    myTints[i] = tint;
+    myAlphas[i] = 1;
+
+    float rx = w / 2 + texSz * SolMath.abs(origPercX);
+    float ry = h / 2 + texSz * SolMath.abs(origPercY);
+    boolean drifting = spd.x != 0 || spd.y != 0;
+    if (drifting && myWrapSz <= 0) throw new AssertionError("drifting sprite in a layer without wrap size");
+    // a drifting sprite can reach any corner of the wrap square
+    float reach = drifting ? myWrapSz / 2 * SolMath.sqrt(2) : relPos.len();
+    float rr = reach + SolMath.sqrt(rx * rx + ry * ry);
+    if (myRadius < rr) {
+      myRadius = rr;
+      myRadiusChanged = true;
+    }
+    if (drifting) myDrifting = true;
+    if (rotSpd != 0 || drifting) myMoving = true;
+    myVertsDirty = true;
+  }
+
+  public int getSize() {
+    return mySize;
+  }
+
+  @Override
+  public Texture getTex0() {
+    return myTex0;
+  }
+
+  @Override
+  public TextureAtlas.AtlasRegion getTex() {
+    return myTex;
+  }
+
+  @Override
+  public DraLevel getLevel() {
+    return myLevel;
+  }
+
+  @Override
+  public void update(SolGame game, SolObject o) {
+    myAge = game.getTime() - myStartTime;
+    if (myRadiusChanged) {
+      game.getObjMan().markRadiusDirty(o);
+      myRadiusChanged = false;
+    }
+    if (!myHideOnPlanet || !game.getDraMan().isInCam(this)) return;
+    Planet np = game.getPlanetMan().getNearestPlanet();
+    Vector2 npPos = np.getPos();
+    float npgh = np.getGroundHeight();
+    float gradSz = .25f * Const.ATM_HEIGHT;
+    // the planet is too far to hide any of the sprites
+    if (gradSz < myPos.dst(npPos) - getRadius() - npgh - Const.ATM_HEIGHT) {
+      if (myFaded) {
+        Arrays.fill(myAlphas, 1);
+        myFaded = false;
+        myVertsDirty = true;
+      }
+      return;
+    }
+    Vector2 pos = SolMath.getVec();
+    for (int i = 0; i < mySize; i++) {
+      spritePos(pos, i);
+      float distPerc = (pos.dst(npPos) - npgh - Const.ATM_HEIGHT) / gradSz;
+      myAlphas[i] = SolMath.clamp(distPerc);
+    }
+    SolMath.free(pos);
+    myFaded = true;
+    myVertsDirty = true;
+  }
+
+  private void spritePos(Vector2 res, int i) {
+    res.set(wrap(myRelXs[i] + mySpdXs[i] * myAge), wrap(myRelYs[i] + mySpdYs[i] * myAge));
+    SolMath.toWorld(res, res, myBaseAngle, myPos, false);
+  }
+
+  private float wrap(float rel) {
+    if (!myDrifting) return rel;
+    float half = myWrapSz / 2;
+    float res = (rel + half) % myWrapSz;
+    if (res < 0) res += myWrapSz;
+    return res - half;
+  }
+
+  /**
+   * @return alpha multiplier which hides a drifting sprite before it jumps to the other side of the wrap square
+   */
+  private float wrapFade(float relX, float relY) {
+    if (!myDrifting) return 1;
+    float half = myWrapSz / 2;
+    float edgeDist = half - Math.max(SolMath.abs(relX), SolMath.abs(relY));
+    return SolMath.clamp(edgeDist / (myWrapSz * WRAP_FADE_PERC));
+  }
+
+  @Override
+  public void prepare(SolObject o) {
+    myPos.set(o.getPos());
+    myBaseAngle = o.getAngle();
+  }
+
+  @Override
+  public Vector2 getPos() {
+    return myPos;
+  }
+
+  @Override
+  public Vector2 getRelPos() {
+    return myRelPos;
+  }
+
+  @Override
+  public float getRadius() {
+    return myRadius;
+  }
+
+  @Override
+  public void draw(GameDrawer drawer, SolGame game) {
+    if (mySize == 0) return;
+    if (myMoving || myVertsDirty || myVertsX != myPos.x || myVertsY != myPos.y || myVertsAngle != myBaseAngle) {
+      computeVerts(game.getCam().getPos());
+    }
+    drawer.draw(myTex0, myTex, myVerts, mySize * SPRITE_SZ);
+  }
+
+  private void computeVerts(Vector2 camPos) {
+    float depth = myLevel.depth;
+    float baseCos = SolMath.cos(myBaseAngle);
+    float baseSin = SolMath.sin(myBaseAngle);
+    float[] v = myVerts;
+    for (int i = 0; i < mySize; i++) {
+      float relX = wrap(myRelXs[i] + mySpdXs[i] * myAge);
+      float relY = wrap(myRelYs[i] + mySpdYs[i] * myAge);
+      float x = relX * baseCos - relY * baseSin + myPos.x;
+      float y = relX * baseSin + relY * baseCos + myPos.y;
+      if (depth != 1) {
+        x = (x - camPos.x) / depth + camPos.x;
+        y = (y - camPos.y) / depth + camPos.y;
+      }
+      float angle = myAngles[i] + myRotSpds[i] * myAge + myBaseAngle;
+      float cos = SolMath.cos(angle);
+      float sin = SolMath.sin(angle);
+      float left = -myOrigXs[i];
+      float bottom = -myOrigYs[i];
+      float right = left + myWidths[i];
+      float top = bottom + myHeights[i];
+      Color tint = myTints[i];
+      float col = Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * myAlphas[i] * wrapFade(relX, relY));
+      float u = myUvs[4 * i];
+      float v1 = myUvs[4 * i + 1];
+      float u2 = myUvs[4 * i + 2];
+      float v2 = myUvs[4 * i + 3];
+
+      int idx = i * SPRITE_SZ;
+      idx = vertex(v, idx, x + left * cos - bottom * sin, y + left * sin + bottom * cos, col, u, v2);
+      idx = vertex(v, idx, x + left * cos - top * sin, y + left * sin + top * cos, col, u, v1);
+      idx = vertex(v, idx, x + right * cos - top * sin, y + right * sin + top * cos, col, u2, v1);
+      vertex(v, idx, x + right * cos - bottom * sin, y + right * sin + bottom * cos, col, u2, v2);
+    }
+    myVertsX = myPos.x;
+    myVertsY = myPos.y;
+    myVertsAngle = myBaseAngle;
+    myVertsDirty = false;
+  }
+
+  private static int vertex(float[] v, int idx, float x, float y, float col, float u, float uv) {
+    v[idx] = x;
+    v[idx + 1] = y;
+    v[idx + 2] = col;
+    v[idx + 3] = u;
+    v[idx + 4] = uv;
+    return idx + VERTEX_SZ;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public boolean okToRemove() {
+    return true;
+  }
+}
@@ -2,10 +2,10 @@ package com.miloshpetrov.sol2.game.gun;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.DmgType;
 import com.miloshpetrov.sol2.game.HardnessCalc;
@@ -99,9 +99,8 @@ public class GunConfig {
   }
 
   public static void load(TextureManager textureManager, ItemManager itemManager, SoundManager soundManager, SolItemTypes types) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("guns.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue sh : parsed) {
       float minAngleVar = sh.getFloat("minAngleVar", 0);
       float maxAngleVar = sh.getFloat("maxAngleVar");
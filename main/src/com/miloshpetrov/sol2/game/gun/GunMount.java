@@ -75,6 +75,7 @@ public class GunMount {
       dras.addAll(dras1);
       game.getDraMan().addAll(dras1);
     }
+    game.getObjMan().markRadiusDirty(o);
   }
 
   public boolean isFixed() {
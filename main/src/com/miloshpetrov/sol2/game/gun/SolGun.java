@@ -81,7 +81,7 @@ public class SolGun {
     mySprite.relAngle = gunRelAngle;
     Vector2 muzzleRelPos = SolMath.fromAl(gunRelAngle, myItem.config.gunLength);
     muzzleRelPos.add(myRelPos);
-    if (myLightSrc != null) myLightSrc.setRelPos(muzzleRelPos);
+    if (myLightSrc != null) myLightSrc.setRelPos(muzzleRelPos, game, creator);
     Vector2 muzzlePos = SolMath.toWorld(muzzleRelPos, baseAngle, basePos);
     SolMath.free(muzzleRelPos);
 
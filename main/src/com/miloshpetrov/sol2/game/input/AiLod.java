@@ -0,0 +1,31 @@
+package com.miloshpetrov.sol2.game.input;
+
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.game.DebugOptions;
+import com.miloshpetrov.sol2.game.SolCam;
+
+/**
+ * level of detail of ai thinking, depends on the distance from the ship to the camera
+ */
+public enum AiLod {
+  FULL(0, 1), MID(.25f, 2), COARSE(.5f, 4);
+
+  /**
+   * time between obstacle avoidance recalculations, the last avoidance correction is reused in between
+   */
+  public final float avoidPeriod;
+  public final float reEquipMul;
+
+  AiLod(float avoidPeriod, float reEquipMul) {
+    this.avoidPeriod = avoidPeriod;
+    this.reEquipMul = reEquipMul;
+  }
+
+  public static AiLod forPos(SolCam cam, Vector2 pos) {
+    float dst = cam.getPos().dst(pos);
+    float viewDist = cam.getViewDist();
+    if (dst < DebugOptions.AI_LOD_FULL_DIST * viewDist) return FULL;
+    if (dst < DebugOptions.AI_LOD_MID_DIST * viewDist) return MID;
+    return COARSE;
+  }
+}
@@ -36,6 +36,7 @@ public class AiPilot implements Pilot {
   private float myBindAwait;
   private PlanetBind myPlanetBind;
   private float myReEquipAwait;
+  private AiLod myLod;
 
   public AiPilot(MoveDestProvider destProvider, boolean collectsItems, Fraction fraction,
     boolean shootAtObstacles, String mapHint, float detectionDist)
@@ -50,6 +51,7 @@ public class AiPilot implements Pilot {
     myShootAtObstacles = shootAtObstacles;
     myMapHint = mapHint;
     myAbilityUpdater = new AbilityUpdater();
+    myLod = AiLod.FULL;
   }
 
   @Override
@@ -57,6 +59,7 @@ public class AiPilot implements Pilot {
     myAbilityUpdater.update(ship, nearestEnemy);
     myPlanetBind = null;
     Vector2 shipPos = ship.getPos();
+    myLod = isPlayer() ? AiLod.FULL : AiLod.forPos(game.getCam(), shipPos);
     HullConfig hullConfig = ship.getHull().config;
     float maxIdleDist = getMaxIdleDist(hullConfig);
     myDestProvider.update(game, shipPos, maxIdleDist, hullConfig, nearestEnemy);
@@ -92,7 +95,7 @@ public class AiPilot implements Pilot {
       }
     }
 
-    myMover.update(game, ship, dest, np, maxIdleDist, hasEngine, avoidBigObjs, desiredSpdLen, shouldStopNearDest, destSpd);
+    myMover.update(game, ship, dest, np, maxIdleDist, hasEngine, avoidBigObjs, desiredSpdLen, shouldStopNearDest, destSpd, myLod);
     boolean moverActive = myMover.isActive();
 
     Vector2 enemyPos = nearestEnemy == null ? null : nearestEnemy.getPos();
@@ -105,7 +108,7 @@ public class AiPilot implements Pilot {
 
     if (myReEquipAwait <= 0) {
       reEquip(game, ship);
-      myReEquipAwait = MAX_RE_EQUIP_AWAIT;
+      myReEquipAwait = MAX_RE_EQUIP_AWAIT * myLod.reEquipMul;
     } else {
       myReEquipAwait -= game.getTimeStep();
     }
@@ -292,7 +295,7 @@ public class AiPilot implements Pilot {
 
   @Override
   public String toDebugString() {
-    return "moverActive: " + myMover.isActive();
+    return "moverActive: " + myMover.isActive() + ", lod: " + myLod;
   }
 
   @Override
@@ -300,4 +303,8 @@ public class AiPilot implements Pilot {
     return myDestProvider instanceof BeaconDestProvider;
   }
 
+  public MoveDestProvider getDestProvider() {
+    return myDestProvider;
+  }
+
 }
@@ -122,4 +122,8 @@ public class ExplorerDestProvider implements MoveDestProvider {
   public float getDesiredSpdLen() {
     return myDesiredSpdLen;
   }
+
+  public SolSystem getSys() {
+    return mySys;
+  }
 }
@@ -37,6 +37,14 @@ public class Guardian implements MoveDestProvider {
     return myDest;
   }
 
+  public Pilot getTargetPilot() {
+    return myTargetPilot;
+  }
+
+  public float getRelAngle() {
+    return myRelAngle;
+  }
+
   @Override
   public boolean shouldAvoidBigObjs() {
     return false;
@@ -4,6 +4,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.SolGame;
+import com.miloshpetrov.sol2.game.maze.Maze;
+import com.miloshpetrov.sol2.game.maze.MazeFlowField;
 import com.miloshpetrov.sol2.game.planet.Planet;
 import com.miloshpetrov.sol2.game.ship.SolShip;
 
@@ -19,6 +21,8 @@ public class Mover {
   private boolean myLeft;
   private boolean myRight;
   private Vector2 myDesiredSpd;
+  private float myAvoidAwait;
+  private float myAvoidAngleDiff;
 
 
   public Mover() {
@@ -29,10 +33,11 @@ public class Mover {
 
   public void update(SolGame game, SolShip ship, Vector2 dest, Planet np,
     float maxIdleDist, boolean hasEngine, boolean avoidBigObjs, float desiredSpdLen, boolean stopNearDest,
-    Vector2 destSpd) {
+    Vector2 destSpd, AiLod lod) {
     myUp = false;
     myLeft = false;
     myRight = false;
+    if (myAvoidAwait > 0) myAvoidAwait -= game.getTimeStep();
 
     if (!hasEngine || dest == null) return;
 
@@ -44,7 +49,7 @@ public class Mover {
       if (!stopNearDest) return;
       myDesiredSpd.set(destSpd);
     } else {
-      updateDesiredSpd(game, ship, dest, toDestLen, stopNearDest, np, avoidBigObjs, desiredSpdLen, destSpd);
+      updateDesiredSpd(game, ship, dest, toDestLen, stopNearDest, np, avoidBigObjs, desiredSpdLen, destSpd, lod);
     }
 
     Vector2 shipSpd = ship.getSpd();
@@ -65,9 +70,9 @@ public class Mover {
   }
 
   private void updateDesiredSpd(SolGame game, SolShip ship, Vector2 dest, float toDestLen, boolean stopNearDest,
-    Planet np, boolean avoidBigObjs, float desiredSpdLen, Vector2 destSpd)
+    Planet np, boolean avoidBigObjs, float desiredSpdLen, Vector2 destSpd, AiLod lod)
   {
-    float toDestAngle = getToDestAngle(game, ship, dest, avoidBigObjs, np);
+    float toDestAngle = getToDestAngle(game, ship, dest, avoidBigObjs, np, lod);
     if (stopNearDest) {
       float tangentSpd = SolMath.project(ship.getSpd(), toDestAngle);
       float turnWay = tangentSpd * ship.calcTimeToTurn(toDestAngle + 180);
@@ -108,16 +113,35 @@ public class Mover {
     }
   }
 
-  private float getToDestAngle(SolGame game, SolShip ship, Vector2 dest, boolean avoidBigObjs, Planet np) {
+  private float getToDestAngle(SolGame game, SolShip ship, Vector2 dest, boolean avoidBigObjs, Planet np, AiLod lod) {
     Vector2 shipPos = ship.getPos();
-    float toDestAngle = SolMath.angle(shipPos, dest);
+    float rawAngle = getMazeAngle(game, shipPos, dest);
+    if (rawAngle != rawAngle) rawAngle = SolMath.angle(shipPos, dest);
+    if (lod != AiLod.FULL && myAvoidAwait > 0) {
+      // extrapolating the last avoidance correction
+      return rawAngle + myAvoidAngleDiff;
+    }
+    float toDestAngle = rawAngle;
     if (avoidBigObjs) {
       toDestAngle = myBigObjAvoider.avoid(game, shipPos, dest, toDestAngle);
     }
-    toDestAngle = mySmallObjAvoider.avoid(game, ship, toDestAngle, np);
+    if (lod != AiLod.COARSE) {
+      float camDist = game.getCam().getPos().dst(shipPos);
+      toDestAngle = mySmallObjAvoider.avoid(game, ship, toDestAngle, np, camDist);
+    }
+    myAvoidAngleDiff = SolMath.norm(toDestAngle - rawAngle);
+    myAvoidAwait = lod.avoidPeriod;
     return toDestAngle;
   }
 
+  private float getMazeAngle(SolGame game, Vector2 shipPos, Vector2 dest) {
+    Maze maze = game.getPlanetMan().getNearestMaze(shipPos);
+    if (maze == null || maze.getRadius() < maze.getPos().dst(shipPos)) return Float.NaN;
+    MazeFlowField flowField = maze.getFlowField();
+    if (flowField == null) return Float.NaN;
+    return flowField.getAngle(shipPos, dest);
+  }
+
   public static Boolean needsToTurn(float angle, float destAngle, float rotSpd, float rotAcc, float allowedAngleDiff) {
     if (SolMath.angleDiff(destAngle, angle) < allowedAngleDiff || rotAcc == 0) return null;
 
@@ -3,6 +3,8 @@ package com.miloshpetrov.sol2.game.input;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.ObjectManager;
+import com.miloshpetrov.sol2.game.RaycastBudget;
 import com.miloshpetrov.sol2.game.SolGame;
 import com.miloshpetrov.sol2.game.SolObject;
 import com.miloshpetrov.sol2.game.planet.Planet;
@@ -11,17 +13,48 @@ import com.miloshpetrov.sol2.game.ship.SolShip;
 public class SmallObjAvoider {
   public static final float MANEUVER_TIME = 2f;
   public static final float MIN_RAYCAST_LEN = .5f;
+  public static final float MAX_CACHE_AGE = .2f;
+  // a cached correction is reused this long when the budget is used up, later the ship goes without correction
+  public static final float MAX_STALE_CACHE_AGE = 5 * MAX_CACHE_AGE;
+  public static final float MAX_CACHE_ANGLE_DIFF = 10f;
   private final RayCastCallback myRayBack;
   private SolShip myShip;
   private boolean myCollided;
   private final Vector2 myDest;
 
+  private boolean myHasCache;
+  private float myCachedToDestAngle;
+  private float myCachedAngleDiff;
+  private float myCacheTime;
+
   public SmallObjAvoider() {
     myRayBack = new MyRayBack();
     myDest = new Vector2();
   }
 
-  public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
+  /**
+   * @param camDist distance from the ship to the camera, the nearest ships are served first by the {@link RaycastBudget}
+   */
+  public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np, float camDist) {
+    RaycastBudget budget = game.getObjMan().getRaycastBudget();
+    float cacheAge = game.getTime() - myCacheTime;
+    if (myHasCache && cacheAge < MAX_CACHE_AGE) {
+      boolean sameHeading = SolMath.angleDiff(toDestAngle, myCachedToDestAngle) < MAX_CACHE_ANGLE_DIFF;
+      if (sameHeading) return toDestAngle + myCachedAngleDiff;
+    }
+    if (!budget.tryTake(camDist)) {
+      if (myHasCache && cacheAge < MAX_STALE_CACHE_AGE) return toDestAngle + myCachedAngleDiff;
+      return toDestAngle;
+    }
+    float res = avoid0(game, ship, toDestAngle, np);
+    myHasCache = true;
+    myCachedToDestAngle = toDestAngle;
+    myCachedAngleDiff = SolMath.norm(res - toDestAngle);
+    myCacheTime = game.getTime();
+    return res;
+  }
+
+  private float avoid0(SolGame game, SolShip ship, float toDestAngle, Planet np) {
     myShip = ship;
     Vector2 shipPos = ship.getPos();
     float shipSpdLen = ship.getSpd().len();
@@ -57,7 +90,7 @@ public class SmallObjAvoider {
   private class MyRayBack implements RayCastCallback {
     @Override
     public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-      SolObject o = (SolObject) fixture.getBody().getUserData();
+      SolObject o = ObjectManager.getObj(fixture);
       if (myShip == o) {
         return -1;
       }
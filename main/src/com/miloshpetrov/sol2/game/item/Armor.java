@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.item;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.DmgType;
 import com.miloshpetrov.sol2.game.SolGame;
@@ -99,9 +99,8 @@ public class Armor implements SolItem {
 
     public static void loadConfigs(ItemManager itemManager, SoundManager soundManager, TextureManager textureManager, SolItemTypes types)
     {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("armors.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
       for (JsonValue sh : parsed) {
         String displayName = sh.getString("displayName");
         int price = sh.getInt("price");
@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.item;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.projectile.ProjectileConfig;
 
@@ -40,9 +40,8 @@ public class ClipConfig {
   }
 
   public static void load(ItemManager itemManager, TextureManager textureManager, SolItemTypes types) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("clips.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue sh : parsed) {
       String projectileName = sh.getString("projectile");
       ProjectileConfig projConfig = itemManager.projConfigs.find(projectileName);
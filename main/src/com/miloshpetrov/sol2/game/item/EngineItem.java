@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.item;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.GameColors;
 import com.miloshpetrov.sol2.game.SolGame;
@@ -128,9 +128,8 @@ public class EngineItem implements SolItem {
 
     public static Configs load(SoundManager soundManager, TextureManager textureManager, EffectTypes effectTypes, GameColors cols) {
       HashMap<String, Config> configs = new HashMap<String, Config>();
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("engines.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
       for (JsonValue sh : parsed) {
         Config config = Config.load(soundManager, configFile, sh, effectTypes, textureManager, cols);
         configs.put(sh.name(), config);
@@ -11,60 +11,76 @@ public class ItemContainer implements Iterable<List<SolItem>> {
 
   private List<List<SolItem>> myGroups;
   private Set<List<SolItem>> myNewGroups;
+  // index: item code -> groups of items with that code, item -> its group
+  private final Map<String, List<List<SolItem>>> myCodeGroups;
+  private final Map<SolItem, List<SolItem>> myItemGroups;
   private int mySize;
+  private int myRevision;
 
   public ItemContainer() {
     myGroups = new ArrayList<List<SolItem>>();
     myNewGroups = new HashSet<List<SolItem>>();
+    myCodeGroups = new HashMap<String, List<List<SolItem>>>();
+    myItemGroups = new IdentityHashMap<SolItem, List<SolItem>>();
+  }
+
+  /**
+   * @return the group of items which are the same as the example, null if there's no such group
+   */
+  private List<SolItem> findGroup(SolItem example) {
+    List<List<SolItem>> codeGroups = myCodeGroups.get(example.getCode());
+    if (codeGroups == null) return null;
+    for (int i = 0, sz = codeGroups.size(); i < sz; i++) {
+      List<SolItem> group = codeGroups.get(i);
+      if (example.isSame(group.get(0))) return group;
+    }
+    return null;
   }
 
   public boolean tryConsumeItem(SolItem example) {
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      SolItem item = group.get(0);
-      if (!example.isSame(item)) continue;
-      remove(item);
-      return true;
-    }
-    return false;
+    List<SolItem> group = findGroup(example);
+    if (group == null) return false;
+    remove(group.get(0));
+    return true;
   }
 
   public int count(SolItem example) {
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      SolItem item = group.get(0);
-      if (example.isSame(item)) return group.size();
-    }
-    return 0;
+    List<SolItem> group = findGroup(example);
+    return group == null ? 0 : group.size();
   }
 
   public boolean canAdd(SolItem example) {
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      SolItem item = group.get(0);
-      if (item.isSame(example)) return group.size() < MAX_GROUP_SZ;
-    }
+    List<SolItem> group = findGroup(example);
+    if (group != null) return group.size() < MAX_GROUP_SZ;
     return myGroups.size() < MAX_GROUP_COUNT;
   }
 
   public void add(SolItem addedItem) {
     if (addedItem == null) throw new AssertionError("adding null item");
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      SolItem item = group.get(0);
-      if (item.isSame(addedItem)) {
-        if (group.size() >= MAX_GROUP_SZ) throw new AssertionError("reached group size limit");
-        group.add(addedItem);
-        mySize++;
-        return;
-      }
+    List<SolItem> group = findGroup(addedItem);
+    if (group != null) {
+      if (group.size() >= MAX_GROUP_SZ) throw new AssertionError("reached group size limit");
+      group.add(addedItem);
+      myItemGroups.put(addedItem, group);
+      mySize++;
+      myRevision++;
+      return;
     }
     if (myGroups.size() >= MAX_GROUP_COUNT) throw new AssertionError("reached group count limit");
-    ArrayList<SolItem> group = new ArrayList<SolItem>();
+    group = new ArrayList<SolItem>();
     group.add(addedItem);
     myGroups.add(0, group);
     mySize++;
+    myRevision++;
     myNewGroups.add(group);
+    myItemGroups.put(addedItem, group);
+    String code = addedItem.getCode();
+    List<List<SolItem>> codeGroups = myCodeGroups.get(code);
+    if (codeGroups == null) {
+      codeGroups = new ArrayList<List<SolItem>>();
+      myCodeGroups.put(code, codeGroups);
+    }
+    codeGroups.add(group);
   }
 
   @Override
@@ -81,26 +97,22 @@ public class ItemContainer implements Iterable<List<SolItem>> {
   }
 
   public boolean contains(SolItem item) {
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      if (group.contains(item)) return true;
-    }
-    return false;
+    return myItemGroups.containsKey(item);
   }
 
   public void remove(SolItem item) {
-    List<SolItem> remGroup = null;
-    boolean removed = false;
-    for (int i = 0, myGroupsSize = myGroups.size(); i < myGroupsSize; i++) {
-      List<SolItem> group = myGroups.get(i);
-      removed = group.remove(item);
-      if (group.isEmpty()) remGroup = group;
-      if (removed) break;
-    }
-    if (removed) mySize--;
-    if (remGroup != null) {
-      myGroups.remove(remGroup);
-      myNewGroups.remove(remGroup);
+    List<SolItem> group = myItemGroups.remove(item);
+    if (group == null) return;
+    group.remove(item);
+    mySize--;
+    myRevision++;
+    if (group.isEmpty()) {
+      myGroups.remove(group);
+      myNewGroups.remove(group);
+      String code = item.getCode();
+      List<List<SolItem>> codeGroups = myCodeGroups.get(code);
+      codeGroups.remove(group);
+      if (codeGroups.isEmpty()) myCodeGroups.remove(code);
     }
   }
 
@@ -146,7 +158,17 @@ public class ItemContainer implements Iterable<List<SolItem>> {
   public void clear() {
     myGroups.clear();
     myNewGroups.clear();
+    myCodeGroups.clear();
+    myItemGroups.clear();
     mySize = 0;
+    myRevision++;
+  }
+
+  /**
+   * @return a number which changes whenever items are added or removed
+   */
+  public int getRevision() {
+    return myRevision;
   }
 
   private class Itr implements Iterator<List<SolItem>> {
@@ -2,7 +2,6 @@ package com.miloshpetrov.sol2.game.item;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.*;
 import com.miloshpetrov.sol2.game.dra.Dra;
@@ -84,7 +83,7 @@ public class Loot implements SolObject {
 
   @Override
   public void onRemove(SolGame game) {
-    myBody.getWorld().destroyBody(myBody);
+    game.getObjMan().getBodyPool().free(myBody);
   }
 
   @Override
@@ -130,7 +129,7 @@ public class Loot implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
     float dmg = absImpulse / myMass / DURABILITY;
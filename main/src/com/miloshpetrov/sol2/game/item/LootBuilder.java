@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.miloshpetrov.sol2.common.SolColor;
+import com.miloshpetrov.sol2.game.BodyPool;
 import com.miloshpetrov.sol2.game.SolGame;
 import com.miloshpetrov.sol2.game.dra.*;
 import com.miloshpetrov.sol2.game.particle.LightSrc;
@@ -37,6 +38,10 @@ public class LootBuilder {
   }
 
   private Body buildBody(SolGame game, Vector2 pos, float sz) {
+    BodyPool pool = game.getObjMan().getBodyPool();
+    String poolKey = "loot " + sz;
+    Body pooled = pool.obtain(poolKey, pos, 0);
+    if (pooled != null) return pooled;
     BodyDef bd = new BodyDef();
     bd.type = BodyDef.BodyType.DynamicBody;
     bd.angle = 0;
@@ -48,6 +53,7 @@ public class LootBuilder {
     shape.setAsBox(sz /2, sz /2);
     body.createFixture(shape, .5f);
     shape.dispose();
+    pool.register(body, poolKey);
     return body;
   }
 }
@@ -3,10 +3,10 @@ package com.miloshpetrov.sol2.game.item;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.*;
 import com.miloshpetrov.sol2.game.ship.SolShip;
@@ -143,9 +143,8 @@ public class Shield implements SolItem {
     }
 
     public static void loadConfigs(ItemManager itemManager, SoundManager soundManager, TextureManager textureManager, SolItemTypes types) {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("shields.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
       for (JsonValue sh : parsed) {
         int maxLife = sh.getInt("maxLife");
         String displayName = sh.getString("displayName");
@@ -2,8 +2,8 @@ package com.miloshpetrov.sol2.game.item;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.GameColors;
 import com.miloshpetrov.sol2.game.sound.SolSound;
@@ -22,9 +22,8 @@ public class SolItemTypes {
   public final SolItemType fixedGun;
 
   public SolItemTypes(SoundManager soundManager, GameColors cols) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("types.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     clip = load("clip", soundManager, configFile, parsed, cols);
     shield = load("shield", soundManager, configFile, parsed, cols);
     armor = load("armor", soundManager, configFile, parsed, cols);
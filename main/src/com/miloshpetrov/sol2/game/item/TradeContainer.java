@@ -10,20 +10,23 @@ public class TradeContainer {
   private final TradeConfig myConfig;
   private final ItemContainer myItems;
 
-  private float myAwait;
+  private boolean myStocked;
+  private float myRestockTime;
 
   public TradeContainer(TradeConfig config) {
     myConfig = config;
     myItems = new ItemContainer();
   }
 
-  public void update(SolGame game) {
-    if (0 < myAwait) {
-      myAwait -= game.getTimeStep();
-      return;
-    }
+  /**
+   * the stock is only materialized when somebody actually looks at it, so idle traders cost nothing
+   */
+  private void maybeRestock(SolGame game) {
+    float time = game.getTime();
+    if (myStocked && time < myRestockTime) return;
 
-    myAwait = MAX_AWAIT;
+    myStocked = true;
+    myRestockTime = time + MAX_AWAIT;
     myItems.clear();
     List<ItemConfig> items = myConfig.items;
     for (int i1 = 0, sz = items.size(); i1 < sz; i1++) {
@@ -36,10 +39,33 @@ public class TradeContainer {
     }
   }
 
-  public ItemContainer getItems() {
+  public ItemContainer getItems(SolGame game) {
+    maybeRestock(game);
     return myItems;
   }
 
+  public TradeConfig getConfig() {
+    return myConfig;
+  }
+
+  /**
+   * @return the current stock without restocking it, null if nobody has looked at it yet
+   */
+  public ItemContainer getStock() {
+    return myStocked ? myItems : null;
+  }
+
+  public float getRestockTime() {
+    return myRestockTime;
+  }
+
+  public void restoreStock(ItemManager itemManager, String items, float restockTime) {
+    myItems.clear();
+    itemManager.fillContainer(myItems, items);
+    myStocked = true;
+    myRestockTime = restockTime;
+  }
+
   public ItemContainer getShips() {
     return myConfig.hulls;
   }
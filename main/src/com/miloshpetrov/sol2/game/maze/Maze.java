@@ -11,6 +11,7 @@ public class Maze {
   private final float myRadius;
   private final float myDps;
   private boolean myObjsCreated;
+  private MazeFlowField myFlowField;
 
   public Maze(MazeConfig config, Vector2 pos, float radius) {
     myConfig = config;
@@ -46,4 +47,19 @@ public class Maze {
   public float getDps() {
     return myDps;
   }
+
+  public boolean isObjsCreated() {
+    return myObjsCreated;
+  }
+
+  /**
+   * @return null until the maze objects are created
+   */
+  public MazeFlowField getFlowField() {
+    return myFlowField;
+  }
+
+  public void setFlowField(MazeFlowField flowField) {
+    myFlowField = flowField;
+  }
 }
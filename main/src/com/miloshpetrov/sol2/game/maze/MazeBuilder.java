@@ -24,6 +24,9 @@ public class MazeBuilder {
     myMazeAngle = SolMath.rnd(180);
 
     MazeLayout layout = buildMaze(game, maze);
+    MazeFlowField flowField = new MazeFlowField(layout, mySz, myMazePos, myMazeAngle);
+    flowField.buildAsync();
+    maze.setFlowField(flowField);
     buildEnemies(game, maze, layout);
   }
 
@@ -1,9 +1,9 @@
 package com.miloshpetrov.sol2.game.maze;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.item.ItemManager;
@@ -17,9 +17,8 @@ public class MazeConfigs {
   public MazeConfigs(TextureManager textureManager, HullConfigManager hullConfigs, ItemManager itemManager) {
     configs = new ArrayList<MazeConfig>();
 
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("mazes.json");
-    JsonValue mazesNode = r.parse(configFile);
+    JsonValue mazesNode = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue mazeNode : mazesNode) {
       MazeConfig c = MazeConfig.load(textureManager, hullConfigs, mazeNode, configFile, itemManager);
       configs.add(c);
@@ -0,0 +1,131 @@
+package com.miloshpetrov.sol2.game.maze;
+
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.common.SolMath;
+
+import java.util.Arrays;
+
+/**
+ * Next-step directions between all pairs of maze cells. Built once per maze on a worker thread,
+ * after that ai ships get the direction to any cell in O(1) instead of steering into the walls.
+ */
+public class MazeFlowField {
+  private static final byte NONE = -1;
+  private static final int[] DX = {1, -1, 0, 0};
+  private static final int[] DY = {0, 0, 1, -1};
+
+  private final int mySz;
+  private final Vector2 myMazePos;
+  private final float myMazeAngle;
+  private final boolean[][] myOpenRight;
+  private final boolean[][] myOpenDown;
+  private volatile byte[][] myDirs;
+
+  public MazeFlowField(MazeLayout layout, int sz, Vector2 mazePos, float mazeAngle) {
+    mySz = sz;
+    myMazePos = new Vector2(mazePos);
+    myMazeAngle = mazeAngle;
+    myOpenRight = new boolean[sz][sz];
+    myOpenDown = new boolean[sz][sz];
+    boolean[][] inners = layout.inners;
+    for (int col = 0; col < sz; col++) {
+      for (int row = 0; row < sz; row++) {
+        // mirrors the wall placement in MazeBuilder.buildMaze
+        boolean ulInner = col > 0 && row > 0 && inners[col][row];
+        boolean rInner = row > 0 && col < sz - 1 && inners[col + 1][row];
+        boolean dInner = col > 0 && row < sz - 1 && inners[col][row + 1];
+        myOpenRight[col][row] = !(row > 0 && (ulInner || rInner) && layout.right[col][row]);
+        myOpenDown[col][row] = !(col > 0 && (ulInner || dInner) && layout.down[col][row]);
+      }
+    }
+  }
+
+  public void buildAsync() {
+    Thread t = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        myDirs = buildDirs();
+      }
+    }, "MazeFlowField");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  public boolean isReady() {
+    return myDirs != null;
+  }
+
+  /**
+   * for each target cell, runs a breadth-first search from the target and stores for every other cell
+   * the direction of the neighbour which is one step closer to the target
+   */
+  private byte[][] buildDirs() {
+    int cellCount = mySz * mySz;
+    byte[][] res = new byte[cellCount][cellCount];
+    int[] queue = new int[cellCount];
+    for (int target = 0; target < cellCount; target++) {
+      byte[] dirs = res[target];
+      Arrays.fill(dirs, NONE);
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = target;
+      while (head < tail) {
+        int cell = queue[head++];
+        int col = cell / mySz;
+        int row = cell % mySz;
+        for (byte dir = 0; dir < 4; dir++) {
+          int nCol = col + DX[dir];
+          int nRow = row + DY[dir];
+          if (nCol < 0 || mySz <= nCol || nRow < 0 || mySz <= nRow) continue;
+          int n = nCol * mySz + nRow;
+          if (n == target || dirs[n] != NONE) continue;
+          if (!isOpen(col, row, dir)) continue;
+          // the neighbour steps back towards the current cell
+          dirs[n] = (byte) (dir ^ 1);
+          queue[tail++] = n;
+        }
+      }
+    }
+    return res;
+  }
+
+  private boolean isOpen(int col, int row, int dir) {
+    switch (dir) {
+      case 0: return myOpenRight[col][row];
+      case 1: return myOpenRight[col - 1][row];
+      case 2: return myOpenDown[col][row];
+      default: return myOpenDown[col][row - 1];
+    }
+  }
+
+  private int toCell(Vector2 pos) {
+    Vector2 rel = SolMath.toRel(pos, myMazeAngle, myMazePos);
+    int col = Math.round(rel.x / MazeBuilder.TILE_SZ) + mySz / 2;
+    int row = Math.round(rel.y / MazeBuilder.TILE_SZ) + mySz / 2;
+    SolMath.free(rel);
+    if (col < 0 || mySz <= col || row < 0 || mySz <= row) return -1;
+    return col * mySz + row;
+  }
+
+  /**
+   * @return the angle to fly in to get from pos to dest through the maze passages,
+   * or NaN if both are in the same cell, either is outside the maze or the field is not built yet
+   */
+  public float getAngle(Vector2 pos, Vector2 dest) {
+    byte[][] dirs = myDirs;
+    if (dirs == null) return Float.NaN;
+    int cell = toCell(pos);
+    int target = toCell(dest);
+    if (cell < 0 || target < 0 || cell == target) return Float.NaN;
+    byte dir = dirs[target][cell];
+    if (dir == NONE) return Float.NaN;
+    int col = cell / mySz + DX[dir];
+    int row = cell % mySz + DY[dir];
+    Vector2 next = SolMath.getVec((col - mySz / 2) * MazeBuilder.TILE_SZ, (row - mySz / 2) * MazeBuilder.TILE_SZ);
+    SolMath.rotate(next, myMazeAngle);
+    next.add(myMazePos);
+    float res = SolMath.angle(pos, next);
+    SolMath.free(next);
+    return res;
+  }
+}
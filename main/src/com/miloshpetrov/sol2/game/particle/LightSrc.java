@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.miloshpetrov.sol2.common.*;
 import com.miloshpetrov.sol2.game.SolGame;
+import com.miloshpetrov.sol2.game.SolObject;
 import com.miloshpetrov.sol2.game.dra.*;
 
 import java.util.List;
@@ -24,10 +25,10 @@ public class LightSrc {
   /** doesn't consume relPos
    */
   public LightSrc(SolGame game, float sz, boolean hasHalo, float intensity, Vector2 relPos, Color col) {
-    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex("smallGameObjs/particles/lightCircle", null);
+    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex(game.getTexIds().lightCircle);
     mySz = sz;
     myCircle = new RectSprite(tex, 0, 0, 0, new Vector2(relPos), DraLevel.PART_BG_0, 0, 0, col, true);
-    tex = game.getTexMan().getTex("smallGameObjs/particles/lightHalo", null);
+    tex = game.getTexMan().getTex(game.getTexIds().lightHalo);
     if (hasHalo) {
       Color haloCol = new Color(col);
       SolColorUtil.changeBrightness(haloCol, .8f);
@@ -37,6 +38,10 @@ public class LightSrc {
     }
     myIntensity = intensity;
     myFadeTime = DEFAULT_FADE_TIME;
+    // the flicker stays below this size, so it never changes the radius of the object
+    float maxSz = (1 + .2f * intensity) * sz;
+    myCircle.setMaxTexSz(SZ_RATIO * maxSz);
+    if (myHalo != null) myHalo.setMaxTexSz(maxSz);
   }
 
   public void update(boolean working, float baseAngle, SolGame game) {
@@ -47,13 +52,14 @@ public class LightSrc {
     }
     float baseA = SolMath.rnd(.5f, 1) * myWorkPerc * myIntensity;
     myCircle.tint.a = baseA * A_RATIO;
-    float sz = (1 + SolMath.rnd(.2f * myIntensity)) * mySz;
-    myCircle.setTexSz(SZ_RATIO * sz);
     if (myHalo != null) {
       myHalo.tint.a = baseA;
       myHalo.relAngle = game.getCam().getAngle() - baseAngle;
-      myHalo.setTexSz(sz);
     }
+    if (myWorkPerc <= 0) return;
+    float sz = (1 + SolMath.rnd(.2f * myIntensity)) * mySz;
+    myCircle.setTexSz(SZ_RATIO * sz);
+    if (myHalo != null) myHalo.setTexSz(sz);
   }
 
   public boolean isFinished() {
@@ -73,8 +79,14 @@ public class LightSrc {
     myWorkPerc = 1;
   }
 
-  public void setRelPos(Vector2 relPos) {
+  /**
+   * the radius of the object depends only on the distance of the light from its center, so turning around the center
+   * doesn't mark it dirty
+   */
+  public void setRelPos(Vector2 relPos, SolGame game, SolObject o) {
+    boolean sameDist = myCircle.relPos.len2() == relPos.len2();
     myCircle.relPos.set(relPos);
     if (myHalo != null) myHalo.relPos.set(relPos);
+    if (!sameDist) game.getObjMan().markRadiusDirty(o);
   }
 }
@@ -122,7 +122,7 @@ public class ParticleSrc implements Dra {
   }
 
   public void update(SolGame game, SolObject o) {
-    maybeSwitchRelPos(game);
+    maybeSwitchRelPos(game, o);
     Vector2 basePos = o.getPos();
     float baseAngle = o.getAngle();
     SolMath.toWorld(myPos, myRelPos, baseAngle, basePos, false);
@@ -138,6 +138,7 @@ public class ParticleSrc implements Dra {
     } else {
       myBbRecalcAwait = MAX_BB_RECALC_AWAIT;
       myEmitter.getBoundingBox();
+      game.getObjMan().markRadiusDirty(o);
     }
   }
 
@@ -159,7 +160,7 @@ public class ParticleSrc implements Dra {
     SolMath.free(spd);
   }
 
-  private void maybeSwitchRelPos(SolGame game) {
+  private void maybeSwitchRelPos(SolGame game, SolObject o) {
     if (myAreaSz == 0) return;
     float ts = game.getTimeStep();
     myTimeSincePosChange += ts;
@@ -167,6 +168,7 @@ public class ParticleSrc implements Dra {
     myTimeSincePosChange = 0;
     SolMath.fromAl(myRelPos, SolMath.rnd(180), SolMath.rnd(0, myAreaSz));
     myRelPos.add(myOrigRelPos);
+    game.getObjMan().markRadiusDirty(o);
   }
 
   private void fixSpeedBug(float ts) {
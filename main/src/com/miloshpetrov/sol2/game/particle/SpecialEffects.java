@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.particle;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.GameColors;
 import com.miloshpetrov.sol2.game.SolGame;
@@ -26,9 +26,8 @@ public class SpecialEffects {
   public final EffectConfig transcendentWork;
 
   public SpecialEffects(EffectTypes effectTypes, TextureManager textureManager, GameColors cols) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("specialEffects.json");
-    JsonValue node = r.parse(configFile);
+    JsonValue node = ConfigBundle.getInstance().parse(configFile);
     mySmoke = EffectConfig.load(node.get("smoke"), effectTypes, textureManager, configFile, cols);
     myFire = EffectConfig.load(node.get("fire"), effectTypes, textureManager, configFile, cols);
     myElectricity = EffectConfig.load(node.get("electricity"), effectTypes, textureManager, configFile, cols);
@@ -0,0 +1,53 @@
+package com.miloshpetrov.sol2.game.planet;
+
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.game.*;
+import com.miloshpetrov.sol2.game.dra.Dra;
+
+import java.util.List;
+
+public class FarPlanetDeco implements FarObj {
+  private final Planet myPlanet;
+  private final PlanetDecoPacks myPacks;
+  private final List<Dra> myDras;
+
+  public FarPlanetDeco(Planet planet, PlanetDecoPacks packs, List<Dra> dras) {
+    myPlanet = planet;
+    myPacks = packs;
+    myDras = dras;
+  }
+
+  @Override
+  public boolean shouldBeRemoved(SolGame game) {
+    return false;
+  }
+
+  @Override
+  public SolObject toObj(SolGame game) {
+    return new PlanetDeco(game, myPlanet, myPacks, myDras);
+  }
+
+  @Override
+  public void update(SolGame game) {
+  }
+
+  @Override
+  public float getRadius() {
+    return myPacks.getRadius();
+  }
+
+  @Override
+  public Vector2 getPos() {
+    return myPlanet.getPos();
+  }
+
+  @Override
+  public String toDebugString() {
+    return null;
+  }
+
+  @Override
+  public boolean hasBody() {
+    return false;
+  }
+}
@@ -1,52 +1,45 @@
 package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.miloshpetrov.sol2.common.SolMath;
-import com.miloshpetrov.sol2.game.SolGame;
 
+/**
+ * Looks for flat ground in the {@link PlanetSurface} of the planet, no raycasts are needed
+ */
 public class FlatPlaceFinder {
-  private final Vector2 myVec = new Vector2();
-  private float myDeviation;
 
-  private final RayCastCallback myRayBack = new RayCastCallback() {
-    @Override
-    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-      if (!(fixture.getBody().getUserData() instanceof TileObject)) {
-        return -1;
-      }
-      myVec.set(point);
-      myDeviation = SolMath.abs(SolMath.angle(normal) + 90);
-      return fraction;
-    }
-  };
-
-  public Vector2 find(SolGame game, Planet p, ConsumedAngles takenAngles, float objHalfWidth) {
-    Vector2 pPos = p.getPos();
-
-    Vector2 res = new Vector2(pPos);
-    float minDeviation = 90;
-    float resAngle = 0;
+  public Vector2 find(Planet p, ConsumedAngles takenAngles, float objHalfWidth) {
+    PlanetSurface surface = p.getSurface();
     float objAngularHalfWidth = SolMath.angularWidthOfSphere(objHalfWidth, p.getGroundHeight());
 
+    float resAngle = SolMath.rnd(0, 360);
+    float maxSlack = -Float.MAX_VALUE;
     for (int i = 0; i < 20; i++) {
-      float angle = SolMath.rnd(180);
+      float angle = SolMath.rnd(0, 360);
+      if (takenAngles != null && takenAngles.isConsumed(angle, objAngularHalfWidth)) continue;
+      if (surface == null) {
+        resAngle = angle;
+        break;
+      }
+      int seg = surface.getSegment(angle);
+      float start = surface.getFlatStart(seg);
+      float end = surface.getFlatEnd(seg);
+      float slack = (end - start) / 2 - objAngularHalfWidth;
+      // move the object to the flat ground, or to its middle if the object doesn't fit
+      if (slack < 0) angle = (start + end) / 2;
+      else angle = SolMath.clamp(angle, start + objAngularHalfWidth, end - objAngularHalfWidth);
       if (takenAngles != null && takenAngles.isConsumed(angle, objAngularHalfWidth)) continue;
-      myDeviation = angle;
-      SolMath.fromAl(myVec, angle, p.getFullHeight());
-      myVec.add(pPos);
-      game.getObjMan().getWorld().rayCast(myRayBack, myVec, pPos);
-      if (myDeviation < minDeviation) {
-        res.set(myVec);
-        minDeviation = myDeviation;
+      if (maxSlack < slack) {
+        maxSlack = slack;
         resAngle = angle;
       }
+      if (slack >= 0) break;
     }
 
     if (takenAngles != null) takenAngles.add(resAngle, objAngularHalfWidth);
-    res.sub(pPos);
-    SolMath.rotate(res, -p.getAngle());
+    float height = surface == null ? p.getGroundHeight() : surface.getHeight(resAngle);
+    Vector2 res = new Vector2();
+    SolMath.fromAl(res, resAngle, height);
     return res;
   }
 }
@@ -0,0 +1,16 @@
+package com.miloshpetrov.sol2.game.planet;
+
+/**
+ * Game time shared by all planets. Planets evaluate their orbits from it only when they are queried, see {@link Planet}
+ */
+public class OrbitClock {
+  private float myTime;
+
+  public float getTime() {
+    return myTime;
+  }
+
+  public void setTime(float time) {
+    myTime = time;
+  }
+}
@@ -1,6 +1,7 @@
 package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.Bound;
 import com.miloshpetrov.sol2.common.SolMath;
@@ -25,18 +26,28 @@ public class Planet {
   private final float myAtmDps;
   private boolean myObjsCreated;
 
+  private final OrbitClock myClock;
+  // orbit and rotation are evaluated from these at the clock time when the planet is queried, at most once per tick
+  private final float myBaseTime;
+  private final float myBaseAngleToSys;
+  private final float myBaseAngle;
+  private float myStateTime;
   private float myAngleToSys;
   private float myAngle;
   private float myMinGroundHeight;
+  private PlanetSurface mySurface;
+  private Body myGroundBody;
   private Vector2 mySpd;
 
   public Planet(SolSystem sys, float angleToSys, float dist, float angle, float toSysRotSpd, float rotSpd,
-    float groundHeight, boolean objsCreated, PlanetConfig config, String name)
+    float groundHeight, float grav, boolean objsCreated, PlanetConfig config, String name, OrbitClock clock)
   {
     mySys = sys;
-    myAngleToSys = angleToSys;
+    myClock = clock;
+    myBaseTime = clock.getTime();
+    myBaseAngleToSys = angleToSys;
     myDist = dist;
-    myAngle = angle;
+    myBaseAngle = angle;
     myToSysRotSpd = toSysRotSpd;
     myRotSpd = rotSpd;
     myGroundHeight = groundHeight;
@@ -46,28 +57,34 @@ public class Planet {
     myObjsCreated = objsCreated;
     myPos = new Vector2();
     mySpd = new Vector2();
-    float grav = SolMath.rnd(config.minGrav, config.maxGrav);
     myGravConst = grav * myGroundHeight * myGroundHeight;
     myGroundDps = HardnessCalc.getGroundDps(myConfig, grav);
     myAtmDps = HardnessCalc.getAtmDps(myConfig);
     myLps = new ArrayList<Vector2>();
-    setSecondaryParams();
+    myStateTime = Float.NaN;
   }
 
   public void update(SolGame game) {
-    float ts = game.getTimeStep();
-    myAngleToSys += myToSysRotSpd * ts;
-    myAngle += myRotSpd * ts;
-
-    setSecondaryParams();
+    if (myGroundBody != null && myGroundBody.getFixtureList().size > 0) moveGroundBody(game.getTimeStep());
+    if (myObjsCreated || game.getPlanetMan().getNearestPlanet() != this) return;
     Vector2 camPos = game.getCam().getPos();
-    if (!myObjsCreated && camPos.dst(myPos) < getGroundHeight() + Const.MAX_SKY_HEIGHT_FROM_GROUND) {
+    if (camPos.dst(getPos()) < getGroundHeight() + Const.MAX_SKY_HEIGHT_FROM_GROUND) {
       myMinGroundHeight = new PlanetObjectsBuilder().createPlanetObjs(game, this);
       fillLangingPlaces(game);
       myObjsCreated = true;
     }
   }
 
+  private void updateState() {
+    float time = myClock.getTime();
+    if (time == myStateTime) return;
+    myStateTime = time;
+    float dt = time - myBaseTime;
+    myAngleToSys = SolMath.norm(myBaseAngleToSys + myToSysRotSpd * dt % 360);
+    myAngle = SolMath.norm(myBaseAngle + myRotSpd * dt % 360);
+    setSecondaryParams();
+  }
+
   private void setSecondaryParams() {
     SolMath.fromAl(myPos, myAngleToSys, myDist, true);
     myPos.add(mySys.getPos());
@@ -76,18 +93,38 @@ public class Planet {
     SolMath.fromAl(mySpd, spdAngle, spdLen);
   }
 
+  /**
+   * the ground tiles don't move in the planet frame, so the whole ground is moved with one velocity write
+   */
+  private void moveGroundBody(float ts) {
+    updateState();
+    Vector2 spd = SolMath.getVec(myPos);
+    spd.sub(myGroundBody.getPosition());
+    spd.scl(1f / ts);
+    myGroundBody.setLinearVelocity(spd);
+    SolMath.free(spd);
+    float bodyAngle = myGroundBody.getAngle() * SolMath.radDeg;
+    float av = SolMath.norm(myAngle - bodyAngle) * SolMath.degRad / ts;
+    myGroundBody.setAngularVelocity(av);
+  }
+
   private void fillLangingPlaces(SolGame game) {
     for (int i = 0; i < 10; i++) {
-      Vector2 lp = game.getPlanetMan().findFlatPlace(game, this, null, 0);
+      Vector2 lp = game.getPlanetMan().findFlatPlace(this, null, 0);
       myLps.add(lp);
     }
   }
 
   public float getAngle() {
+    updateState();
     return myAngle;
   }
 
+  /**
+   * the returned vector is updated on the next query in a later tick, don't keep it
+   */
   public Vector2 getPos() {
+    updateState();
     return myPos;
   }
 
@@ -109,7 +146,7 @@ public class Planet {
     if (myConfig.skyConfig == null) {
       return r;
     }
-    Vector2 up = SolMath.distVec(myPos, pos);
+    Vector2 up = SolMath.distVec(getPos(), pos);
     float dst = up.len();
     if (dst == 0 || getFullHeight() < dst) {
       SolMath.free(up);
@@ -139,6 +176,7 @@ public class Planet {
   }
 
   public float getAngleToSys() {
+    updateState();
     return myAngleToSys;
   }
 
@@ -158,8 +196,30 @@ public class Planet {
     return myMinGroundHeight;
   }
 
+  /**
+   * @return the ground profile, null until the planet objects are created
+   */
+  public PlanetSurface getSurface() {
+    return mySurface;
+  }
+
+  public void setSurface(PlanetSurface surface) {
+    mySurface = surface;
+  }
+
+  /**
+   * @return the kinematic body which carries the fixtures of the near ground tiles, null until a tile gets near
+   */
+  public Body getGroundBody() {
+    return myGroundBody;
+  }
+
+  public void setGroundBody(Body groundBody) {
+    myGroundBody = groundBody;
+  }
+
   public boolean isNearGround(Vector2 pos) {
-    return myPos.dst(pos) - myGroundHeight < .25f * Const.ATM_HEIGHT;
+    return getPos().dst(pos) - myGroundHeight < .25f * Const.ATM_HEIGHT;
   }
 
   public PlanetConfig getConfig() {
@@ -175,7 +235,7 @@ public class Planet {
   }
 
   public void calcSpdAtPos(Vector2 spd, Vector2 pos) {
-    Vector2 toPos = SolMath.distVec(myPos, pos);
+    Vector2 toPos = SolMath.distVec(getPos(), pos);
     float fromPlanetAngle = SolMath.angle(toPos);
     float hSpdLen = SolMath.angleToArc(myRotSpd, toPos.len());
     SolMath.free(toPos);
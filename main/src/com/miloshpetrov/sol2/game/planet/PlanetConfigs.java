@@ -1,10 +1,10 @@
 package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.GameColors;
@@ -24,9 +24,8 @@ public class PlanetConfigs {
     myMedium = new ArrayList<PlanetConfig>();
     myHard = new ArrayList<PlanetConfig>();
 
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("planets.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue sh : parsed) {
       PlanetConfig c = PlanetConfig.load(textureManager, hullConfigs, configFile, sh, cols, itemManager);
       myAllConfigs.put(sh.name, c);
@@ -0,0 +1,229 @@
+package com.miloshpetrov.sol2.game.planet;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.*;
+import com.miloshpetrov.sol2.game.dra.Dra;
+import com.miloshpetrov.sol2.game.dra.DraLevel;
+
+import java.util.Arrays;
+
+/**
+ * Planet clouds or deco of one texture. Each sprite belongs to a pack of {@link PlanetDecoPacks} and is stored in
+ * planet-local coordinates with its corners already rotated, so a sprite which doesn't spin is placed by the rotation
+ * of its pack only. Sprites of packs out of the camera view are skipped, the rest is drawn with one batch call.
+ */
+public class PlanetDecoLayer implements Dra {
+  private static final int VERTEX_SZ = 5;
+  private static final int SPRITE_SZ = 4 * VERTEX_SZ;
+
+  private final Texture myTex0;
+  private final TextureAtlas.AtlasRegion myTex;
+  private final DraLevel myLevel;
+  private final PlanetDecoPacks myPacks;
+  private final Vector2 myPos;
+  private final Vector2 myRelPos;
+
+  private int mySize;
+  // per sprite: pack, planet-local position and corners at build time, spin relative to the pack, tex coords, color
+  private int[] myPackIdxs;
+  private float[] myXs;
+  private float[] myYs;
+  private float[] myCorners;
+  private float[] myRotSpds;
+  private float[] myUvs;
+  private float[] myCols;
+  private float[] myVerts;
+  private int myVertCount;
+
+  public PlanetDecoLayer(TextureAtlas.AtlasRegion tex, DraLevel level, PlanetDecoPacks packs) {
+    if (level.depth != 1) throw new AssertionError("planet deco can't be drawn with parallax");
+    myTex = tex;
+    myTex0 = tex.getTexture();
+    myLevel = level;
+    myPacks = packs;
+    myPos = new Vector2();
+    myRelPos = new Vector2();
+    allocate(16);
+  }
+
+  private void allocate(int sz) {
+    myPackIdxs = myPackIdxs == null ? new int[sz] : Arrays.copyOf(myPackIdxs, sz);
+    myXs = copy(myXs, sz);
+    myYs = copy(myYs, sz);
+    myCorners = copy(myCorners, sz * 8);
+    myRotSpds = copy(myRotSpds, sz);
+    myUvs = copy(myUvs, sz * 4);
+    myCols = copy(myCols, sz);
+    myVerts = new float[sz * SPRITE_SZ];
+  }
+
+  private static float[] copy(float[] arr, int sz) {
+    return arr == null ? new float[sz] : Arrays.copyOf(arr, sz);
+  }
+
+  /**
+   * same parameters as in {@link com.miloshpetrov.sol2.game.dra.RectSprite} of an object which stands at the pack
+   * and faces away from the planet. tex must be on the texture of this layer. Doesn't consume relPos
+   */
+  public void add(int pack, TextureAtlas.AtlasRegion tex, float texSz, float origPercX, float origPercY,
+    Vector2 relPos, float relAngle, float rotSpd, Color tint)
+  {
+    if (tex.getTexture() != myTex0) throw new AssertionError("sprite texture differs from the layer texture");
+    if (mySize == myXs.length) allocate(mySize * 2);
+    int i = mySize++;
+    float w;
+    float h;
+    int r = tex.getRegionWidth() / tex.getRegionHeight();
+    if (r > 1) {
+      w = texSz;
+      h = texSz / r;
+    } else {
+      w = texSz / r;
+      h = texSz;
+    }
+    float packAngle = myPacks.getAngle(pack);
+    float packDist = myPacks.getDist(pack);
+    float baseAngle = packAngle + 90;
+    Vector2 pos = SolMath.fromAl(packAngle, packDist);
+    Vector2 shift = SolMath.getVec(relPos);
+    SolMath.rotate(shift, baseAngle);
+    pos.add(shift);
+    SolMath.free(shift);
+    myPackIdxs[i] = pack;
+    myXs[i] = pos.x;
+    myYs[i] = pos.y;
+    SolMath.free(pos);
+
+    float angle = baseAngle + relAngle;
+    float cos = SolMath.cos(angle);
+    float sin = SolMath.sin(angle);
+    float left = -(w / 2 + texSz * origPercX);
+    float bottom = -(h / 2 + texSz * origPercY);
+    float right = left + w;
+    float top = bottom + h;
+    int c = 8 * i;
+    corner(c, left, bottom, cos, sin);
+    corner(c + 2, left, top, cos, sin);
+    corner(c + 4, right, top, cos, sin);
+    corner(c + 6, right, bottom, cos, sin);
+
+    myRotSpds[i] = rotSpd;
+    myUvs[4 * i] = tex.getU();
+    myUvs[4 * i + 1] = tex.getV();
+    myUvs[4 * i + 2] = tex.getU2();
+    myUvs[4 * i + 3] = tex.getV2();
+    myCols[i] = tint.toFloatBits();
+
+    float rx = w / 2 + texSz * SolMath.abs(origPercX);
+    float ry = h / 2 + texSz * SolMath.abs(origPercY);
+    myPacks.extend(pack, relPos.len() + SolMath.sqrt(rx * rx + ry * ry));
+  }
+
+  private void corner(int idx, float x, float y, float cos, float sin) {
+    myCorners[idx] = x * cos - y * sin;
+    myCorners[idx + 1] = x * sin + y * cos;
+  }
+
+  @Override
+  public Texture getTex0() {
+    return myTex0;
+  }
+
+  @Override
+  public TextureAtlas.AtlasRegion getTex() {
+    return myTex;
+  }
+
+  @Override
+  public DraLevel getLevel() {
+    return myLevel;
+  }
+
+  @Override
+  public void update(SolGame game, SolObject o) {
+  }
+
+  @Override
+  public void prepare(SolObject o) {
+    myPos.set(o.getPos());
+  }
+
+  @Override
+  public Vector2 getPos() {
+    return myPos;
+  }
+
+  @Override
+  public Vector2 getRelPos() {
+    return myRelPos;
+  }
+
+  @Override
+  public float getRadius() {
+    return myPacks.getRadius();
+  }
+
+  @Override
+  public void draw(GameDrawer drawer, SolGame game) {
+    computeVerts(myPacks.getAge(game));
+    if (myVertCount == 0) return;
+    drawer.draw(myTex0, myTex, myVerts, myVertCount);
+  }
+
+  private void computeVerts(float age) {
+    float[] v = myVerts;
+    int idx = 0;
+    for (int i = 0; i < mySize; i++) {
+      int pack = myPackIdxs[i];
+      if (!myPacks.isVisible(pack)) continue;
+      float packCos = myPacks.getCos(pack);
+      float packSin = myPacks.getSin(pack);
+      float x = myXs[i] * packCos - myYs[i] * packSin + myPos.x;
+      float y = myXs[i] * packSin + myYs[i] * packCos + myPos.y;
+      float cos = packCos;
+      float sin = packSin;
+      float rotSpd = myRotSpds[i];
+      if (rotSpd != 0) {
+        float angle = myPacks.getFrameAngle(pack) + rotSpd * age;
+        cos = SolMath.cos(angle);
+        sin = SolMath.sin(angle);
+      }
+      float col = myCols[i];
+      float u = myUvs[4 * i];
+      float v1 = myUvs[4 * i + 1];
+      float u2 = myUvs[4 * i + 2];
+      float v2 = myUvs[4 * i + 3];
+      int c = 8 * i;
+      idx = vertex(v, idx, x, y, cos, sin, myCorners[c], myCorners[c + 1], col, u, v2);
+      idx = vertex(v, idx, x, y, cos, sin, myCorners[c + 2], myCorners[c + 3], col, u, v1);
+      idx = vertex(v, idx, x, y, cos, sin, myCorners[c + 4], myCorners[c + 5], col, u2, v1);
+      idx = vertex(v, idx, x, y, cos, sin, myCorners[c + 6], myCorners[c + 7], col, u2, v2);
+    }
+    myVertCount = idx;
+  }
+
+  private static int vertex(float[] v, int idx, float x, float y, float cos, float sin, float cx, float cy, float col,
+    float u, float uv)
+  {
+    v[idx] = x + cx * cos - cy * sin;
+    v[idx + 1] = y + cx * sin + cy * cos;
+    v[idx + 2] = col;
+    v[idx + 3] = u;
+    v[idx + 4] = uv;
+    return idx + VERTEX_SZ;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public boolean okToRemove() {
+    return true;
+  }
+}
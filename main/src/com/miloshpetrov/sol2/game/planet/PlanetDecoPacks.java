@@ -0,0 +1,139 @@
+package com.miloshpetrov.sol2.game.planet;
+
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.SolCam;
+import com.miloshpetrov.sol2.game.SolGame;
+
+import java.util.Arrays;
+
+/**
+ * Packs of planet decorations (a cloud, or the deco of a piece of the ground) in planet-local polar coordinates.
+ * A pack may revolve around the planet, its angle is computed from the time since the packs were built.
+ * Visibility is decided per pack by its angular distance to the camera, once per update for all the
+ * {@link PlanetDecoLayer}s of the planet.
+ */
+public class PlanetDecoPacks {
+  private final float myStartTime;
+
+  private int mySize;
+  private float[] myAngles;
+  private float[] myDists;
+  private float[] myRotSpds;
+  private float[] myRadii;
+  private boolean[] myVisible;
+  // world rotation of each visible pack: planet angle plus the revolution of the pack
+  private float[] myFrameAngles;
+  private float[] myCos;
+  private float[] mySin;
+  private float myRadius;
+
+  public PlanetDecoPacks(float startTime) {
+    myStartTime = startTime;
+    allocate(16);
+  }
+
+  private void allocate(int sz) {
+    myAngles = copy(myAngles, sz);
+    myDists = copy(myDists, sz);
+    myRotSpds = copy(myRotSpds, sz);
+    myRadii = copy(myRadii, sz);
+    myFrameAngles = copy(myFrameAngles, sz);
+    myCos = copy(myCos, sz);
+    mySin = copy(mySin, sz);
+    myVisible = myVisible == null ? new boolean[sz] : Arrays.copyOf(myVisible, sz);
+  }
+
+  private static float[] copy(float[] arr, int sz) {
+    return arr == null ? new float[sz] : Arrays.copyOf(arr, sz);
+  }
+
+  /**
+   * @param angle angle to the planet, relative to the planet angle
+   * @param rotSpd angular speed of the pack around the planet
+   * @return index of the new pack
+   */
+  public int add(float angle, float dist, float rotSpd) {
+    if (mySize == myAngles.length) allocate(mySize * 2);
+    int i = mySize++;
+    myAngles[i] = angle;
+    myDists[i] = dist;
+    myRotSpds[i] = rotSpd;
+    if (myRadius < dist) myRadius = dist;
+    return i;
+  }
+
+  /**
+   * grows the pack so that it covers a sprite at the given distance from the pack center
+   */
+  void extend(int pack, float radius) {
+    if (myRadii[pack] < radius) myRadii[pack] = radius;
+    float rr = myDists[pack] + radius;
+    if (myRadius < rr) myRadius = rr;
+  }
+
+  public float getAngle(int pack) {
+    return myAngles[pack];
+  }
+
+  public float getDist(int pack) {
+    return myDists[pack];
+  }
+
+  /**
+   * @return distance from the planet center which covers all the packs
+   */
+  public float getRadius() {
+    return myRadius;
+  }
+
+  public float getAge(SolGame game) {
+    return game.getTime() - myStartTime;
+  }
+
+  public void update(SolGame game, Planet planet) {
+    float age = getAge(game);
+    SolCam cam = game.getCam();
+    Vector2 planetPos = planet.getPos();
+    Vector2 camPos = cam.getPos();
+    float viewDist = cam.getViewDist();
+    float planetAngle = planet.getAngle();
+    float camDist = planetPos.dst(camPos);
+    float camAngle = SolMath.angle(planetPos, camPos) - planetAngle;
+    for (int i = 0; i < mySize; i++) {
+      float dist = myDists[i];
+      float reach = viewDist + myRadii[i];
+      float angle = myAngles[i] + myRotSpds[i] * age;
+      boolean visible;
+      if (camDist * dist == 0) {
+        visible = SolMath.abs(camDist - dist) < reach;
+      } else {
+        // cos of the angular half width of the window in which the pack is closer to the camera than reach
+        float winCos = (camDist * camDist + dist * dist - reach * reach) / (2 * camDist * dist);
+        visible = winCos <= SolMath.cos(angle - camAngle);
+      }
+      myVisible[i] = visible;
+      if (!visible) continue;
+      float frameAngle = planetAngle + myRotSpds[i] * age;
+      myFrameAngles[i] = frameAngle;
+      myCos[i] = SolMath.cos(frameAngle);
+      mySin[i] = SolMath.sin(frameAngle);
+    }
+  }
+
+  public boolean isVisible(int pack) {
+    return myVisible[pack];
+  }
+
+  public float getFrameAngle(int pack) {
+    return myFrameAngles[pack];
+  }
+
+  public float getCos(int pack) {
+    return myCos[pack];
+  }
+
+  public float getSin(int pack) {
+    return mySin[pack];
+  }
+}
@@ -14,6 +14,7 @@ import com.miloshpetrov.sol2.game.maze.*;
 import com.miloshpetrov.sol2.game.ship.*;
 import com.miloshpetrov.sol2.game.ship.hulls.HullConfig;
 import com.miloshpetrov.sol2.game.ship.hulls.Hull;
+import com.miloshpetrov.sol2.save.SaveData;
 
 import java.util.*;
 
@@ -29,6 +30,7 @@ public class PlanetManager {
   private final SunSingleton mySunSingleton;
   private final SysConfigs mySysConfigs;
   private final PlanetCoreSingleton myPlanetCore;
+  private final OrbitClock myClock;
   private Planet myNearestPlanet;
 
   public PlanetManager(TextureManager textureManager, HullConfigManager hullConfigs, GameColors cols, ItemManager itemManager) {
@@ -43,41 +45,94 @@ public class PlanetManager {
     myFlatPlaceFinder = new FlatPlaceFinder();
     mySunSingleton = new SunSingleton(textureManager);
     myPlanetCore = new PlanetCoreSingleton(textureManager);
+    myClock = new OrbitClock();
   }
 
   public void fill(SolNames names) {
-    new SystemsBuilder().build(mySystems, myPlanets, myBelts, myPlanetConfigs, myMazeConfigs, myMazes, mySysConfigs, names);
+    new SystemsBuilder().build(mySystems, myPlanets, myBelts, myPlanetConfigs, myMazeConfigs, myMazes, mySysConfigs, names,
+      myClock);
+  }
+
+  /**
+   * recreates the galaxy layout from a snapshot instead of generating a new one
+   */
+  public void restore(SaveData save) {
+    // the saved planet angles are the ones at the save time
+    myClock.setTime(save.time);
+    for (SaveData.SysData sd : save.systems) {
+      SolSystem s = new SolSystem(new Vector2(sd.x, sd.y), mySysConfigs.getConfig(sd.configName), sd.name, sd.radius);
+      mySystems.add(s);
+    }
+    for (SaveData.BeltData bd : save.belts) {
+      SolSystem s = mySystems.get(bd.sysIdx);
+      SystemBelt belt = new SystemBelt(bd.halfWidth, bd.radius, s, mySysConfigs.getBeltConfig(bd.configName));
+      myBelts.add(belt);
+      s.addBelt(belt);
+    }
+    for (SaveData.PlanetData pd : save.planets) {
+      SolSystem s = mySystems.get(pd.sysIdx);
+      // ground tiles and planet ships are not part of the snapshot, so the planet objects are built again on approach
+      Planet p = new Planet(s, pd.angleToSys, pd.dist, pd.angle, pd.toSysRotSpd, pd.rotSpd, pd.groundHeight, pd.grav,
+        false, myPlanetConfigs.getConfig(pd.configName), pd.name, myClock);
+      myPlanets.add(p);
+      s.getPlanets().add(p);
+    }
+    for (SaveData.MazeData md : save.mazes) {
+      myMazes.add(new Maze(myMazeConfigs.configs.get(md.configIdx), new Vector2(md.x, md.y), md.radius));
+    }
   }
 
   public void update(SolGame game) {
     Vector2 camPos = game.getCam().getPos();
+    myClock.setTime(game.getTime());
+    myNearestPlanet = getNearestPlanet(camPos);
     for (int i = 0, myPlanetsSize = myPlanets.size(); i < myPlanetsSize; i++) {
       Planet p = myPlanets.get(i);
       p.update(game);
     }
-    for (int i = 0, myMazesSize = myMazes.size(); i < myMazesSize; i++) {
-      Maze m = myMazes.get(i);
-      m.update(game);
-    }
-
-    myNearestPlanet = getNearestPlanet(camPos);
+    // only the nearest maze can be close enough to build its objects
+    Maze nearestMaze = getNearestMaze(camPos);
+    if (nearestMaze != null) nearestMaze.update(game);
 
     SolSystem nearestSys = getNearestSystem(camPos);
     applyGrav(game, nearestSys);
   }
 
+  /**
+   * Systems are searched from the nearest one, so the planets of systems which are further than the nearest planet
+   * found so far are never queried
+   */
   public Planet getNearestPlanet(Vector2 pos) {
     float minDst = Float.MAX_VALUE;
     Planet res = null;
-    for (int i = 0, myPlanetsSize = myPlanets.size(); i < myPlanetsSize; i++) {
-      Planet p = myPlanets.get(i);
+    SolSystem nearestSys = getNearestSystem(pos);
+    if (nearestSys != null) {
+      res = getNearestPlanet(nearestSys, pos, null);
+      if (res != null) minDst = pos.dst(res.getPos());
+    }
+    for (int i = 0, mySystemsSize = mySystems.size(); i < mySystemsSize; i++) {
+      SolSystem s = mySystems.get(i);
+      if (s == nearestSys || minDst <= pos.dst(s.getPos()) - s.getRadius()) continue;
+      Planet p = getNearestPlanet(s, pos, res);
+      if (p == res) continue;
+      res = p;
+      minDst = pos.dst(p.getPos());
+    }
+    return res;
+  }
+
+  private Planet getNearestPlanet(SolSystem s, Vector2 pos, Planet best) {
+    float minDst = best == null ? Float.MAX_VALUE : pos.dst(best.getPos());
+    ArrayList<Planet> planets = s.getPlanets();
+    for (int i = 0, sz = planets.size(); i < sz; i++) {
+      Planet p = planets.get(i);
       float dst = pos.dst(p.getPos());
       if (dst < minDst) {
         minDst = dst;
-        res = p;
+        best = p;
       }
     }
-    return res;
+    return best;
   }
 
   private void applyGrav(SolGame game, SolSystem nearestSys) {
@@ -190,15 +245,19 @@ public class PlanetManager {
     return mySystems;
   }
 
-  public Vector2 findFlatPlace(SolGame game, Planet p, ConsumedAngles takenAngles,
+  public Vector2 findFlatPlace(Planet p, ConsumedAngles takenAngles,
     float objHalfWidth) {
-    return myFlatPlaceFinder.find(game, p, takenAngles, objHalfWidth);
+    return myFlatPlaceFinder.find(p, takenAngles, objHalfWidth);
   }
 
   public ArrayList<Maze> getMazes() {
     return myMazes;
   }
 
+  public MazeConfigs getMazeConfigs() {
+    return myMazeConfigs;
+  }
+
   public SolSystem getNearestSystem(Vector2 pos) {
     float minDst = Float.MAX_VALUE;
     SolSystem res = null;
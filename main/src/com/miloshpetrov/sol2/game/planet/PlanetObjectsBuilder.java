@@ -1,8 +1,8 @@
 package com.miloshpetrov.sol2.game.planet;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.*;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.TextureManager;
 import com.miloshpetrov.sol2.common.SolColor;
@@ -34,8 +34,11 @@ public class PlanetObjectsBuilder {
   public float createPlanetObjs(SolGame game, Planet planet) {
     if (DebugOptions.NO_OBJS) return 0;
     float minR = createGround(game, planet);
-    createClouds(game, planet);
-    createDeco(game, planet);
+    PlanetDecoPacks packs = new PlanetDecoPacks(game.getTime());
+    ArrayList<Dra> layers = new ArrayList<Dra>();
+    createClouds(game, planet, packs, layers);
+    createDeco(game, planet, packs, layers);
+    if (!layers.isEmpty()) game.getObjMan().addFarObjNow(new FarPlanetDeco(planet, packs, layers));
     if (planet.getConfig().skyConfig != null) {
       Sky sky = new Sky(game, planet);
       game.getObjMan().addObjDelayed(sky);
@@ -111,6 +114,7 @@ public class PlanetObjectsBuilder {
     float minR = radii[rows - 1] - tileSizes[rows - 1] / 2;
 
     Tile[][] tileMap = new GroundBuilder(planet.getConfig(), cols, rows).build();
+    planet.setSurface(new PlanetSurface(tileMap, radii));
 
     // create ground
     for (int row = 0; row < rows; row++) {
@@ -133,40 +137,39 @@ public class PlanetObjectsBuilder {
     return minR;
   }
 
-  private void createClouds(SolGame game, Planet planet) {
+  private void createClouds(SolGame game, Planet planet, PlanetDecoPacks packs, List<Dra> layers) {
     ArrayList<TextureAtlas.AtlasRegion> cloudTexs = planet.getConfig().cloudTexs;
     if (cloudTexs.isEmpty()) return;
     int cloudCount = SolMath.intRnd(.7f, (int) (CLOUD_DENSITY * Const.ATM_HEIGHT * planet.getGroundHeight()));
     for (int i = 0; i < cloudCount; i++) {
-      FarPlanetSprites cloud = createCloud(planet, cloudTexs, game.getTexMan());
-      game.getObjMan().addFarObjNow(cloud);
+      createCloud(planet, cloudTexs, game.getTexMan(), packs, layers);
     }
   }
 
-  private FarPlanetSprites createCloud(Planet planet, ArrayList<TextureAtlas.AtlasRegion> cloudTexs, TextureManager textureManager) {
+  private void createCloud(Planet planet, ArrayList<TextureAtlas.AtlasRegion> cloudTexs, TextureManager textureManager,
+    PlanetDecoPacks packs, List<Dra> layers)
+  {
     float distPerc = SolMath.rnd(0, 1);
     float dist = planet.getGroundHeight() - TOP_TILE_SZ + .9f * Const.ATM_HEIGHT * distPerc;
     float angle = SolMath.rnd(180);
 
-    ArrayList<Dra> dras = new ArrayList<Dra>();
     float sizePerc = SolMath.rnd(.2f, 1);
     float linearWidth = sizePerc * (distPerc + .5f) * AVG_CLOUD_LINEAR_WIDTH;
     float maxAngleShift = SolMath.arcToAngle(linearWidth, dist);
     float maxDistShift = (1 - distPerc) * MAX_CLOUD_PIECE_DIST_SHIFT;
+    float rotSpd = SolMath.rnd(.1f, 1) * SolMath.arcToAngle(MAX_CLOUD_LINEAR_SPD, dist);
+    int pack = packs.add(angle, dist, rotSpd);
 
     int pieceCount = (int) (sizePerc * MAX_CLOUD_PIECE_COUNT);
     for (int i = 0; i < pieceCount; i++) {
-      RectSprite s = createCloudSprite(cloudTexs, maxAngleShift, maxDistShift, dist, textureManager);
-      dras.add(s);
+      addCloudSprite(cloudTexs, maxAngleShift, maxDistShift, dist, textureManager, packs, pack, layers);
     }
-    float rotSpd = SolMath.rnd(.1f, 1) * SolMath.arcToAngle(MAX_CLOUD_LINEAR_SPD, dist);
-
-    return new FarPlanetSprites(planet, angle, dist, dras, rotSpd);
   }
 
-  private RectSprite createCloudSprite(ArrayList<TextureAtlas.AtlasRegion> cloudTexs,
+  private void addCloudSprite(ArrayList<TextureAtlas.AtlasRegion> cloudTexs,
     float maxAngleShift,
-    float maxDistShift, float baseDist, TextureManager textureManager)
+    float maxDistShift, float baseDist, TextureManager textureManager, PlanetDecoPacks packs, int pack,
+    List<Dra> layers)
   {
 
     TextureAtlas.AtlasRegion tex = SolMath.elemRnd(cloudTexs);
@@ -186,46 +189,48 @@ public class PlanetObjectsBuilder {
     relPos.sub(basePos);
     SolMath.free(basePos);
 
-    return new RectSprite(tex, sz, 0, 0, relPos, DraLevel.CLOUDS, relAngle, rotSpd, SolColor.W, false);
+    addToLayer(layers, packs, pack, tex, sz, 0, 0, relPos, DraLevel.CLOUDS, relAngle, rotSpd);
   }
 
-  public void createDeco(SolGame game, Planet planet) {
+  /**
+   * Adds a sprite to the {@link PlanetDecoLayer} of its texture and level, so that each texture is drawn at once
+   */
+  private void addToLayer(List<Dra> layers, PlanetDecoPacks packs, int pack, TextureAtlas.AtlasRegion tex, float texSz,
+    float origPercX, float origPercY, Vector2 relPos, DraLevel level, float relAngle, float rotSpd)
+  {
+    Texture tex0 = tex.getTexture();
+    PlanetDecoLayer layer = null;
+    for (int i = 0, sz = layers.size(); i < sz; i++) {
+      PlanetDecoLayer l = (PlanetDecoLayer) layers.get(i);
+      if (l.getTex0() == tex0 && l.getLevel() == level) {
+        layer = l;
+        break;
+      }
+    }
+    if (layer == null) {
+      layer = new PlanetDecoLayer(tex, level, packs);
+      layers.add(layer);
+    }
+    layer.add(pack, tex, texSz, origPercX, origPercY, relPos, relAngle, rotSpd, SolColor.W);
+  }
+
+  private void createDeco(SolGame game, Planet planet, PlanetDecoPacks packs, List<Dra> layers) {
     float groundHeight = planet.getGroundHeight();
     Vector2 planetPos = planet.getPos();
     float planetAngle = planet.getAngle();
-    Map<Vector2, List<Dra>> collector = new HashMap<Vector2, List<Dra>>();
+    Map<Vector2, Integer> packIdxs = new HashMap<Vector2, Integer>();
     PlanetConfig config = planet.getConfig();
+    PlanetSurface surface = planet.getSurface();
     for (DecoConfig dc : config.deco) {
-      addDeco0(game, groundHeight, planetPos, collector, dc);
-    }
-
-    for (Map.Entry<Vector2, List<Dra>> e : collector.entrySet()) {
-      Vector2 packPos = e.getKey();
-      List<Dra> ss = e.getValue();
-      float packAngle = SolMath.angle(planetPos, packPos, true) - planetAngle;
-      float packDist = packPos.dst(planetPos);
-      FarPlanetSprites ps = new FarPlanetSprites(planet, packAngle, packDist, ss, 0);
-      game.getObjMan().addFarObjNow(ps);
+      addDeco0(game, groundHeight, planetPos, planetAngle, surface, packIdxs, dc, packs, layers);
     }
   }
 
-  private void addDeco0(SolGame game, float groundHeight, Vector2 planetPos,
-    Map<Vector2, List<Dra>> collector, DecoConfig dc)
+  private void addDeco0(SolGame game, float groundHeight, Vector2 planetPos, float planetAngle,
+    PlanetSurface surface, Map<Vector2, Integer> packIdxs, DecoConfig dc, PlanetDecoPacks packs, List<Dra> layers)
   {
-    World w = game.getObjMan().getWorld();
     ConsumedAngles consumed = new ConsumedAngles();
-
-    final Vector2 rayCasted = new Vector2();
-    RayCastCallback rcc = new RayCastCallback() {
-      @Override
-      public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-        if (!(fixture.getBody().getUserData() instanceof TileObject)) {
-          return -1;
-        }
-        rayCasted.set(point);
-        return fraction;
-      }
-    };
+    Vector2 decoPos = new Vector2();
 
     int decoCount = (int) (2 * SolMath.PI * groundHeight * dc.density);
     for (int i = 0; i < decoCount; i++) {
@@ -241,15 +246,14 @@ public class PlanetObjectsBuilder {
         }
       }
 
-      SolMath.fromAl(rayCasted, decoAngle, groundHeight, true);
-      rayCasted.add(planetPos);
-      w.rayCast(rcc, rayCasted, planetPos);
-      float decoDist = rayCasted.dst(planetPos);
+      float decoDist = surface.getHeight(decoAngle - planetAngle);
+      SolMath.fromAl(decoPos, decoAngle, decoDist, true);
+      decoPos.add(planetPos);
 
       float baseAngle = SolMath.windowCenter(decoAngle, DECO_PACK_ANGULAR_WIDTH);
       float baseDist = SolMath.windowCenter(decoDist, DECO_PACK_SZ);
       Vector2 basePos = SolMath.fromAl(baseAngle, baseDist).add(planetPos);
-      Vector2 decoRelPos = new Vector2(rayCasted).sub(basePos);
+      Vector2 decoRelPos = new Vector2(decoPos).sub(basePos);
       SolMath.rotate(decoRelPos, -baseAngle - 90, true);
       float decoRelAngle = decoAngle - baseAngle;
 
@@ -257,13 +261,12 @@ public class PlanetObjectsBuilder {
       TextureAtlas.AtlasRegion decoTex = SolMath.elemRnd(dc.texs);
       if (dc.allowFlip && SolMath.test(.5f)) decoTex = game.getTexMan().getFlipped(decoTex);
 
-      RectSprite s = new RectSprite(decoTex, decoSz, dc.orig.x, dc.orig.y, decoRelPos, DraLevel.DECO, decoRelAngle, 0, SolColor.W, false);
-      List<Dra> ss = collector.get(basePos);
-      if (ss == null) {
-        ss = new ArrayList<Dra>();
-        collector.put(new Vector2(basePos), ss);
+      Integer pack = packIdxs.get(basePos);
+      if (pack == null) {
+        pack = packs.add(baseAngle - planetAngle, baseDist, 0);
+        packIdxs.put(new Vector2(basePos), pack);
       }
-      ss.add(s);
+      addToLayer(layers, packs, pack, decoTex, decoSz, dc.orig.x, dc.orig.y, decoRelPos, DraLevel.DECO, decoRelAngle, 0);
       SolMath.free(basePos);
     }
   }
@@ -272,7 +275,7 @@ public class PlanetObjectsBuilder {
     TradeConfig tc,
     Fraction fraction, ConsumedAngles takenAngles, String mapHint)
   {
-    Vector2 pos = game.getPlanetMan().findFlatPlace(game, planet, takenAngles, ge.hull.getApproxRadius());
+    Vector2 pos = game.getPlanetMan().findFlatPlace(planet, takenAngles, ge.hull.getApproxRadius());
     boolean station = ge.hull.getType() == HullConfig.Type.STATION;
     String ic = ge.items;
     boolean hasRepairer;
@@ -0,0 +1,88 @@
+package com.miloshpetrov.sol2.game.planet;
+
+import com.miloshpetrov.sol2.common.SolMath;
+
+/**
+ * Ground profile of a planet, read from the tile map built by {@link GroundBuilder}. The surface row of each column is
+ * the row whose tile has a forward surface on its right side, so between the centers of tiles col and col + 1 the ground
+ * is flat at the height of that row. Steps are taken in the middle half of a tile and the height is interpolated there.
+ * Angles are relative to the planet angle.
+ */
+public class PlanetSurface {
+  // part of a tile on each side of its center in which the height changes
+  private static final float STEP_HALF_WIDTH = .25f;
+
+  private final int myCols;
+  private final float[] myHeights;
+
+  public PlanetSurface(Tile[][] tileMap, float[] radii) {
+    myCols = tileMap.length;
+    myHeights = new float[myCols];
+    int rows = radii.length;
+    for (int col = 0; col < myCols; col++) {
+      int surfaceRow = rows - 1;
+      for (int row = 0; row < rows; row++) {
+        Tile tile = tileMap[col][row];
+        if (tile != null && tile.to == SurfaceDirection.FWD) {
+          surfaceRow = row;
+          break;
+        }
+      }
+      myHeights[col] = radii[surfaceRow];
+    }
+  }
+
+  /**
+   * @return index of the flat piece of ground between the centers of two tiles which contains the angle
+   */
+  public int getSegment(float relAngle) {
+    return (int) toCols(relAngle) % myCols;
+  }
+
+  private float toCols(float relAngle) {
+    float a = SolMath.norm(relAngle);
+    if (a < 0) a += 360;
+    return a * myCols / 360;
+  }
+
+  private float getHeight(int segment) {
+    return myHeights[(segment % myCols + myCols) % myCols];
+  }
+
+  public float getHeight(float relAngle) {
+    float u = toCols(relAngle);
+    int seg = (int) u;
+    float frac = u - seg;
+    if (frac < STEP_HALF_WIDTH) {
+      float h0 = getHeight(seg - 1);
+      return h0 + (getHeight(seg) - h0) * (frac + STEP_HALF_WIDTH) / (2 * STEP_HALF_WIDTH);
+    }
+    if (1 - STEP_HALF_WIDTH < frac) {
+      float h0 = getHeight(seg);
+      return h0 + (getHeight(seg + 1) - h0) * (frac - 1 + STEP_HALF_WIDTH) / (2 * STEP_HALF_WIDTH);
+    }
+    return getHeight(seg);
+  }
+
+  /**
+   * @return start angle of the flat ground around the segment, not normalized so that start < end
+   */
+  public float getFlatStart(int segment) {
+    float h = getHeight(segment);
+    int first = segment;
+    while (segment - first < myCols && getHeight(first - 1) == h) first--;
+    if (segment - first == myCols) return segment * 360f / myCols - 180;
+    return (first + STEP_HALF_WIDTH) * 360 / myCols;
+  }
+
+  /**
+   * @return end angle of the flat ground around the segment, not normalized so that start < end
+   */
+  public float getFlatEnd(int segment) {
+    float h = getHeight(segment);
+    int last = segment;
+    while (last - segment < myCols && getHeight(last + 1) == h) last++;
+    if (last - segment == myCols) return segment * 360f / myCols + 180;
+    return (last + 1 - STEP_HALF_WIDTH) * 360 / myCols;
+  }
+}
@@ -1,7 +1,6 @@
   package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.SolColor;
 import com.miloshpetrov.sol2.common.SolMath;
@@ -19,14 +18,15 @@ public class Sky implements SolObject {
   private final ArrayList<Dra> myDras;
   private final ColorSpan mySkySpan;
   private final Vector2 myPos;
+  private float mySz;
 
   public Sky(SolGame game, Planet planet) {
     myPlanet = planet;
     myDras = new ArrayList<Dra>();
 
-    myFill = new RectSprite(game.getTexMan().getTex("planetStarCommons/whiteTex", null), 5, 0, 0, new Vector2(), DraLevel.ATM, 0f, 0, SolColor.col(.5f, 0), false);
+    myFill = new RectSprite(game.getTexMan().getTex(game.getTexIds().skyFill), 5, 0, 0, new Vector2(), DraLevel.ATM, 0f, 0, SolColor.col(.5f, 0), false);
     myDras.add(myFill);
-    myGrad = new RectSprite(game.getTexMan().getTex("planetStarCommons/grad", null), 5, 0, 0, new Vector2(), DraLevel.ATM, 0f, 0, SolColor.col(.5f, 0), false);
+    myGrad = new RectSprite(game.getTexMan().getTex(game.getTexIds().skyGrad), 5, 0, 0, new Vector2(), DraLevel.ATM, 0f, 0, SolColor.col(.5f, 0), false);
     myDras.add(myGrad);
     SkyConfig config = planet.getConfig().skyConfig;
     mySkySpan = ColorSpan.rgb(config.dawn, config.day);
@@ -70,8 +70,12 @@ public class Sky implements SolObject {
 
     float viewDist = cam.getViewDist();
     float sz = 2 * viewDist;
-    myGrad.setTexSz(sz);
-    myFill.setTexSz(sz);
+    if (sz != mySz) {
+      mySz = sz;
+      myGrad.setTexSz(sz);
+      myFill.setTexSz(sz);
+      game.getObjMan().markRadiusDirty(this);
+    }
 
     float angleCamToSun = angleToCam - angleToSun;
     float relAngle;
@@ -128,7 +132,7 @@ public class Sky implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
   }
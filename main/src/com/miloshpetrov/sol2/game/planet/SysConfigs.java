@@ -1,10 +1,10 @@
 package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.ShipConfig;
@@ -33,9 +33,8 @@ public class SysConfigs {
   private void load(TextureManager textureManager, HullConfigManager hullConfigs, boolean belts, String configName,
     ItemManager itemManager)
   {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child(configName);
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue sh : parsed) {
       ArrayList<ShipConfig> tempEnemies = ShipConfig.loadList(sh.get("temporaryEnemies"), hullConfigs, itemManager);
       ArrayList<ShipConfig> innerTempEnemies = ShipConfig.loadList(sh.get("innerTemporaryEnemies"), hullConfigs, itemManager);
@@ -66,6 +65,12 @@ public class SysConfigs {
     return myHardConfigs.get(name);
   }
 
+  public SysConfig getBeltConfig(String name) {
+    SysConfig res = myBeltConfigs.get(name);
+    if (res != null) return res;
+    return myHardBeltConfigs.get(name);
+  }
+
   public SysConfig getRandomCfg(boolean hard) {
     Map<String, SysConfig> config = hard ? myHardConfigs : myConfigs;
     return SolMath.elemRnd(new ArrayList<SysConfig>(config.values()));
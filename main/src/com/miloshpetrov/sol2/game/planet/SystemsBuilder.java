@@ -22,7 +22,7 @@ public class SystemsBuilder {
 
   public List<SolSystem> build(List<SolSystem> systems, List<Planet> planets, ArrayList<SystemBelt> belts,
     PlanetConfigs planetConfigs,
-    MazeConfigs mazeConfigs, ArrayList<Maze> mazes, SysConfigs sysConfigs, SolNames names)
+    MazeConfigs mazeConfigs, ArrayList<Maze> mazes, SysConfigs sysConfigs, SolNames names, OrbitClock clock)
   {
     int sysLeft = SYS_COUNT;
     int mazesLeft = MAZE_COUNT;
@@ -33,7 +33,8 @@ public class SystemsBuilder {
         List<Float> ghs = generatePlanetGhs();
         float sysRadius = calcSysRadius(ghs);
         Vector2 pos = getBodyPos(systems, mazes, sysRadius);
-        SolSystem s = createSystem(ghs, pos, planets, belts, planetConfigs, sysRadius, sysConfigs, names, systems.isEmpty());
+        SolSystem s = createSystem(ghs, pos, planets, belts, planetConfigs, sysRadius, sysConfigs, names, systems.isEmpty(),
+          clock);
         systems.add(s);
         sysLeft--;
       } else {
@@ -112,7 +113,7 @@ public class SystemsBuilder {
 
   private SolSystem createSystem(List<Float> ghs, Vector2 sysPos, List<Planet> planets, ArrayList<SystemBelt> belts,
     PlanetConfigs planetConfigs,
-    float sysRadius, SysConfigs sysConfigs, SolNames names, boolean firstSys)
+    float sysRadius, SysConfigs sysConfigs, SolNames names, boolean firstSys, OrbitClock clock)
   {
     boolean hard = !firstSys;
     String st = DebugOptions.FORCE_SYSTEM_TYPE;
@@ -143,7 +144,7 @@ public class SystemsBuilder {
         } else {
           planetConfig = planetConfigs.getConfig(pt);
         }
-        Planet p = createPlanet(planetDist, s, gh, planetConfig, names);
+        Planet p = createPlanet(planetDist, s, gh, planetConfig, names, clock);
         planets.add(p);
         s.getPlanets().add(p);
       } else {
@@ -159,11 +160,13 @@ public class SystemsBuilder {
   }
 
   private Planet createPlanet(float planetDist, SolSystem s, float groundHeight, PlanetConfig planetConfig,
-    SolNames names) {
+    SolNames names, OrbitClock clock) {
     float toSysRotSpd = SolMath.arcToAngle(PLANET_SPD, planetDist) * SolMath.toInt(SolMath.test(.5f));
     float rotSpd = SolMath.arcToAngle(GROUND_SPD, groundHeight)  * SolMath.toInt(SolMath.test(.5f));
     String name = SolMath.elemRnd(names.planets);
-    return new Planet(s, SolMath.rnd(180), planetDist, SolMath.rnd(180), toSysRotSpd, rotSpd, groundHeight, false, planetConfig, name);
+    float grav = SolMath.rnd(planetConfig.minGrav, planetConfig.maxGrav);
+    return new Planet(s, SolMath.rnd(180), planetDist, SolMath.rnd(180), toSysRotSpd, rotSpd, groundHeight, grav, false,
+      planetConfig, name, clock);
   }
 
 }
@@ -15,29 +15,36 @@ public class TileObjBuilder {
   public TileObject build(SolGame game, float sz, float toPlanetRelAngle, float dist, Tile tile, Planet planet) {
     float spriteSz = sz * 2;
     RectSprite sprite = new RectSprite(tile.tex, spriteSz, 0, 0, new Vector2(), DraLevel.GROUND, 0, 0f, SolColor.W, false);
-    Body body = null;
+    Fixture fixture = null;
     if (tile.points.size() > 0) {
-      body = buildBody(game, toPlanetRelAngle, dist, tile, planet, spriteSz);
+      fixture = buildFixture(game, toPlanetRelAngle, dist, tile, planet, spriteSz);
     }
-    TileObject res = new TileObject(planet, toPlanetRelAngle, dist, sz, sprite, body, tile);
-    if (body != null) body.setUserData(res);
+    TileObject res = new TileObject(planet, toPlanetRelAngle, dist, sz, sprite, fixture, tile);
+    if (fixture != null) fixture.setUserData(res);
     return res;
   }
 
-  private Body buildBody(SolGame game, float toPlanetRelAngle, float dist, Tile tile, Planet planet, float spriteSz) {
-    BodyDef def = new BodyDef();
-    def.type = BodyDef.BodyType.KinematicBody;
-    float toPlanetAngle = planet.getAngle() + toPlanetRelAngle;
-    SolMath.fromAl(def.position, toPlanetAngle, dist, true);
-    def.position.add(planet.getPos());
-    def.angle = (toPlanetAngle + 90) * SolMath.degRad;
-    def.angularDamping = 0;
-    Body body = game.getObjMan().getWorld().createBody(def);
+  /**
+   * the tile becomes a fixture of the ground body of the planet, placed in planet coordinates
+   */
+  private Fixture buildFixture(SolGame game, float toPlanetRelAngle, float dist, Tile tile, Planet planet, float spriteSz) {
+    Body body = planet.getGroundBody();
+    if (body == null) {
+      body = buildGroundBody(game, planet);
+      planet.setGroundBody(body);
+    } else if (body.getFixtureList().size == 0) {
+      // the body is not moved while it has no tiles
+      body.setTransform(planet.getPos(), planet.getAngle() * SolMath.degRad);
+    }
+    Vector2 tilePos = new Vector2();
+    SolMath.fromAl(tilePos, toPlanetRelAngle, dist, true);
     ChainShape shape = new ChainShape();
     List<Vector2> points  = new ArrayList<Vector2>();
     for (Vector2 curr : tile.points) {
       Vector2 v = new Vector2(curr);
       v.scl(spriteSz);
+      SolMath.rotate(v, toPlanetRelAngle + 90, true);
+      v.add(tilePos);
       points.add(v);
     }
     Vector2[] v = points.toArray(new Vector2[]{});
@@ -45,6 +52,15 @@ public class TileObjBuilder {
     Fixture f = body.createFixture(shape, 0);
     f.setFriction(Const.FRICTION);
     shape.dispose();
-    return body;
+    return f;
+  }
+
+  private Body buildGroundBody(SolGame game, Planet planet) {
+    BodyDef def = new BodyDef();
+    def.type = BodyDef.BodyType.KinematicBody;
+    def.position.set(planet.getPos());
+    def.angle = planet.getAngle() * SolMath.degRad;
+    def.angularDamping = 0;
+    return game.getObjMan().getWorld().createBody(def);
   }
 }
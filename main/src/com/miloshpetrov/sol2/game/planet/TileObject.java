@@ -1,8 +1,7 @@
 package com.miloshpetrov.sol2.game.planet;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.game.*;
 import com.miloshpetrov.sol2.game.dra.*;
@@ -16,7 +15,7 @@ public class TileObject implements SolObject {
   private final float myToPlanetRelAngle;
   private final float myDist;
   private final List<Dra> myDras;
-  private final Body myBody;
+  private final Fixture myFixture;
   private final Vector2 myPos;
 
   // for far objs {
@@ -26,7 +25,7 @@ public class TileObject implements SolObject {
 
   private float myAngle;
 
-  public TileObject(Planet planet, float toPlanetRelAngle, float dist, float size, RectSprite sprite, Body body, Tile tile) {
+  public TileObject(Planet planet, float toPlanetRelAngle, float dist, float size, RectSprite sprite, Fixture fixture, Tile tile) {
     myTile = tile;
     myDras = new ArrayList<Dra>();
 
@@ -34,7 +33,7 @@ public class TileObject implements SolObject {
     myToPlanetRelAngle = toPlanetRelAngle;
     myDist = dist;
     mySize = size;
-    myBody = body;
+    myFixture = fixture;
     myPos = new Vector2();
 
     myDras.add(sprite);
@@ -44,18 +43,6 @@ public class TileObject implements SolObject {
   @Override
   public void update(SolGame game) {
     setDependentParams();
-
-    if (myBody != null) {
-      float ts = game.getTimeStep();
-      Vector2 spd = SolMath.getVec(myPos);
-      spd.sub(myBody.getPosition());
-      spd.scl(1f / ts);
-      myBody.setLinearVelocity(spd);
-      SolMath.free(spd);
-      float bodyAngle = myBody.getAngle() * SolMath.radDeg;
-      float av = SolMath.norm(myAngle - bodyAngle) * SolMath.degRad / ts;
-      myBody.setAngularVelocity(av);
-    }
   }
 
   private void setDependentParams() {
@@ -72,7 +59,7 @@ public class TileObject implements SolObject {
 
   @Override
   public void onRemove(SolGame game) {
-    if (myBody != null) myBody.getWorld().destroyBody(myBody);
+    if (myFixture != null) myFixture.getBody().destroyFixture(myFixture);
   }
 
   @Override
@@ -115,7 +102,7 @@ public class TileObject implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
   }
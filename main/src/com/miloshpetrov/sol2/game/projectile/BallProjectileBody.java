@@ -3,6 +3,8 @@ package com.miloshpetrov.sol2.game.projectile;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.CollisionBits;
+import com.miloshpetrov.sol2.game.Fraction;
 import com.miloshpetrov.sol2.game.SolGame;
 import com.miloshpetrov.sol2.game.asteroid.AsteroidBuilder;
 import com.miloshpetrov.sol2.game.ship.SolShip;
@@ -20,7 +22,9 @@ public class BallProjectileBody implements ProjectileBody {
     Vector2 gunSpd, float spdLen, ProjectileConfig config)
   {
     float density = config.density == -1 ? 1 : config.density;
-    myBody = AsteroidBuilder.buildBall(game, pos, angle, config.physSize / 2, density, config.massless);
+    Fraction fraction = projectile.getFraction();
+    myBody = AsteroidBuilder.buildBall(game, pos, angle, config.physSize / 2, density, config.massless,
+      CollisionBits.projCategory(fraction), CollisionBits.projMask(fraction, config.density <= 0));
     if (config.zeroAbsSpd) myBody.setAngularVelocity(15f * SolMath.degRad);
 
     mySpd = new Vector2();
@@ -69,7 +73,7 @@ public class BallProjectileBody implements ProjectileBody {
 
   @Override
   public void onRemove(SolGame game) {
-    myBody.getWorld().destroyBody(myBody);
+    game.getObjMan().getBodyPool().free(myBody);
   }
 
   @Override
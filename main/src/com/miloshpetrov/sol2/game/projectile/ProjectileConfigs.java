@@ -3,10 +3,10 @@ package com.miloshpetrov.sol2.game.projectile;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.*;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.DmgType;
 import com.miloshpetrov.sol2.game.GameColors;
@@ -24,9 +24,8 @@ public class ProjectileConfigs {
 
   public ProjectileConfigs(TextureManager textureManager, SoundManager soundManager, EffectTypes effectTypes, GameColors cols) {
     myConfigs = new HashMap<String, ProjectileConfig>();
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("projectiles.json");
-    JsonValue parsed = r.parse(configFile);
+    JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
     for (JsonValue sh : parsed) {
       String texName = "smallGameObjs/projectiles/" + sh.getString("texName");
       TextureAtlas.AtlasRegion tex = textureManager.getTex(texName, configFile);
@@ -26,7 +26,7 @@ public class BuyItems implements InventoryOperations {
 
   @Override
   public ItemContainer getItems(SolGame game) {
-    return game.getScreens().talkScreen.getTarget().getTradeContainer().getItems();
+    return game.getScreens().talkScreen.getTarget().getTradeContainer().getItems(game);
   }
 
   @Override
@@ -66,7 +66,7 @@ public class BuyItems implements InventoryOperations {
     buyCtrl.setEnabled(enabled);
     if (!enabled) return;
     if (buyCtrl.isJustOff()) {
-      target.getTradeContainer().getItems().remove(selItem);
+      target.getTradeContainer().getItems(game).remove(selItem);
       hero.getItemContainer().add(selItem);
       hero.setMoney(hero.getMoney() - selItem.getPrice());
     }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.game.ObjectManager;
 import com.miloshpetrov.sol2.game.SolGame;
 import com.miloshpetrov.sol2.game.SolObject;
 import com.miloshpetrov.sol2.game.ship.SolShip;
@@ -42,7 +43,7 @@ public class CollisionWarnDrawer extends WarnDrawer {
     private boolean show;
     @Override
     public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-      SolObject o = (SolObject) fixture.getBody().getUserData();
+      SolObject o = ObjectManager.getObj(fixture);
       if (myHero == o) {
         return -1;
       }
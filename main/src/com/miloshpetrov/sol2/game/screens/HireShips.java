@@ -84,6 +84,7 @@ public class HireShips implements InventoryOperations {
     if (pos == null) return false;
     FarShip merc = game.getShipBuilder().buildNewFar(game, pos, new Vector2(), 0, 0, pilot, config.items, config.hull, null, true, config.money, null, true);
     game.getObjMan().addFarObjNow(merc);
+    game.getSaveJournal().shipSpawned();
     return true;
   }
 
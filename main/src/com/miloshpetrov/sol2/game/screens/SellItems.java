@@ -64,7 +64,7 @@ public class SellItems implements InventoryOperations {
       return;
     }
     SolItem selItem = is.getSelectedItem();
-    boolean enabled = selItem != null && target.getTradeContainer().getItems().canAdd(selItem);
+    boolean enabled = selItem != null && target.getTradeContainer().getItems(game).canAdd(selItem);
     sellCtrl.setDisplayName(enabled ? "Sell" : "---");
     sellCtrl.setEnabled(enabled);
     if (!enabled) return;
@@ -72,7 +72,7 @@ public class SellItems implements InventoryOperations {
       ItemContainer ic = hero.getItemContainer();
       is.setSelected(ic.getSelectionAfterRemove(is.getSelected()));
       ic.remove(selItem);
-      target.getTradeContainer().getItems().add(selItem);
+      target.getTradeContainer().getItems(game).add(selItem);
       hero.setMoney(hero.getMoney() + selItem.getPrice() * PERC);
     }
   }
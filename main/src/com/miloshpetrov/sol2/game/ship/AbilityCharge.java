@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.ship;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.TextureManager;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.SolGame;
 import com.miloshpetrov.sol2.game.item.*;
@@ -76,9 +76,8 @@ public class AbilityCharge implements SolItem {
     }
 
     public static void load(ItemManager itemManager, TextureManager textureManager, SolItemTypes types) {
-      JsonReader r = new JsonReader();
       FileHandle configFile = FileManager.getInstance().getItemsDirectory().child("abilityCharges.json");
-      JsonValue parsed = r.parse(configFile);
+      JsonValue parsed = ConfigBundle.getInstance().parse(configFile);
       for (JsonValue ammoNode : parsed) {
         String iconName = ammoNode.getString("iconName");
         TextureAtlas.AtlasRegion icon = textureManager.getTex(TextureManager.ICONS_DIR + iconName, configFile);
@@ -64,7 +64,6 @@ public class FarShip implements FarObj {
   @Override
   public void update(SolGame game) {
     myPilot.updateFar(game, this);
-    if (myTradeContainer != null) myTradeContainer.update(game);
     if (myRepairer != null) myLife += myRepairer.tryRepair(game, myContainer, myLife, myHullConfig);
   }
 
@@ -149,4 +148,12 @@ public class FarShip implements FarObj {
   public ItemContainer getIc() {
     return myContainer;
   }
+
+  public TradeContainer getTradeContainer() {
+    return myTradeContainer;
+  }
+
+  public void setLife(float life) {
+    myLife = life;
+  }
 }
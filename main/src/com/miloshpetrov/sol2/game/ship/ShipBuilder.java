@@ -6,10 +6,10 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.physics.box2d.joints.PrismaticJoint;
 import com.badlogic.gdx.physics.box2d.joints.PrismaticJointDef;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.common.SolColor;
 import com.miloshpetrov.sol2.common.SolMath;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.files.HullConfigManager;
 import com.miloshpetrov.sol2.game.*;
@@ -120,7 +120,7 @@ public class ShipBuilder {
     EngineItem engine, ShipRepairer repairer, float money, TradeContainer tradeContainer, Shield shield, Armor armor)
   {
     ArrayList<Dra> dras = new ArrayList<Dra>();
-    Hull hull = buildHull(game, pos, spd, angle, rotSpd, hullConfig, life, dras);
+    Hull hull = buildHull(game, pos, spd, angle, rotSpd, hullConfig, life, dras, pilot.getFraction());
     SolShip ship = new SolShip(game, pilot, hull, removeController, dras, container, repairer, money, tradeContainer, shield, armor);
     hull.getBody().setUserData(ship);
     for (Door door : hull.getDoors()) door.getBody().setUserData(ship);
@@ -146,19 +146,23 @@ public class ShipBuilder {
   }
 
   private Hull buildHull(SolGame game, Vector2 pos, Vector2 spd, float angle, float rotSpd, HullConfig hullConfig,
-    float life, ArrayList<Dra> dras)
+    float life, ArrayList<Dra> dras, Fraction fraction)
   {
+    // the fixture model is read and scaled once per hull, later builds only attach the cached shapes
+    if (!myPathLoader.hasRigidBody(hullConfig.getInternalName())) {
       //TODO: This logic belongs in the HullConfigManager/HullConfig
       FileHandle hullPropertiesFile =  FileManager.getInstance().getHullsDirectory().child(hullConfig.getInternalName()).child(HullConfigManager.PROPERTIES_FILE_NAME);
-      JsonReader reader = new JsonReader();
-      JsonValue rigidBodyNode = reader.parse(hullPropertiesFile).get("rigidBody");
+      JsonValue rigidBodyNode = ConfigBundle.getInstance().parse(hullPropertiesFile).get("rigidBody");
       myPathLoader.readJson(rigidBodyNode, hullConfig);
+    }
 
     BodyDef.BodyType bodyType = hullConfig.getType() == HullConfig.Type.STATION ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody;
     DraLevel level = hullConfig.getType() == HullConfig.Type.STD ? DraLevel.BODIES : DraLevel.BIG_BODIES;
     Body body = myPathLoader.getBodyAndSprite(game, hullConfig, hullConfig.getSize(), bodyType, pos, angle,
       dras, SHIP_DENSITY, level, hullConfig.getTexture());
-    Fixture shieldFixture = createShieldFixture(hullConfig, body);
+    short shipMask = CollisionBits.shipMask(fraction);
+    CollisionBits.setFilter(body, CollisionBits.shipCategory(fraction), shipMask);
+    Fixture shieldFixture = createShieldFixture(hullConfig, body, fraction);
 
 
     GunMount gunMount0 = new GunMount(hullConfig.getGunSlot(0));
@@ -183,6 +187,7 @@ public class ShipBuilder {
     ArrayList<Door> doors = new ArrayList<Door>();
     for (Vector2 doorRelPos : hullConfig.getDoorPositions()) {
       Door door = createDoor(game, pos, angle, body, doorRelPos);
+      CollisionBits.setFilter(door.getBody(), CollisionBits.shipCategory(fraction), shipMask);
       door.collectDras(dras);
       doors.add(door);
     }
@@ -194,12 +199,14 @@ public class ShipBuilder {
     return hull;
   }
 
-  private Fixture createShieldFixture(HullConfig hullConfig, Body body) {
+  private Fixture createShieldFixture(HullConfig hullConfig, Body body, Fraction fraction) {
     CircleShape shieldShape = new CircleShape();
     shieldShape.setRadius(Shield.SIZE_PERC * hullConfig.getSize());
     FixtureDef shieldDef = new FixtureDef();
     shieldDef.shape = shieldShape;
     shieldDef.isSensor = true;
+    shieldDef.filter.categoryBits = CollisionBits.shieldCategory(fraction);
+    shieldDef.filter.maskBits = CollisionBits.shipMask(fraction);
     Fixture shieldFixture = body.createFixture(shieldDef);
     shieldShape.dispose();
     return shieldFixture;
@@ -207,7 +214,7 @@ public class ShipBuilder {
 
   private Door createDoor(SolGame game, Vector2 pos, float angle, Body body, Vector2 doorRelPos) {
     World w = game.getObjMan().getWorld();
-    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex("smallGameObjs/door", null);
+    TextureAtlas.AtlasRegion tex = game.getTexMan().getTex(game.getTexIds().door);
     PrismaticJoint joint = createDoorJoint(body, w, pos, doorRelPos, angle);
     RectSprite s = new RectSprite(tex, Door.DOOR_LEN, 0, 0, new Vector2(doorRelPos), DraLevel.BODIES, 0, 0, SolColor.W, false);
     return new Door(joint, s);
@@ -89,7 +89,7 @@ public class SolShip implements SolObject {
   }
 
   @Override
-  public void handleContact(SolObject other, ContactImpulse impulse, boolean isA, float absImpulse,
+  public void handleContact(SolObject other, boolean isA, float absImpulse,
     SolGame game, Vector2 collPos)
   {
     if (tryCollectLoot(other, game)) {
@@ -130,7 +130,7 @@ public class SolShip implements SolObject {
       myMoney += i.getPrice();
       return true;
     }
-    ItemContainer c = shouldTrade(i, game) ? myTradeContainer.getItems() : myItemContainer;
+    ItemContainer c = shouldTrade(i, game) ? myTradeContainer.getItems(game) : myItemContainer;
     boolean canAdd = c.canAdd(i);
     if (canAdd) c.add(i);
     return canAdd;
@@ -175,7 +175,6 @@ public class SolShip implements SolObject {
     updateIdleTime(game);
     updateShield(game);
     if (myArmor != null && !myItemContainer.contains(myArmor)) myArmor = null;
-    if (myTradeContainer != null) myTradeContainer.update(game);
 
     if (isControlsEnabled() && myRepairer != null && myIdleTime > ShipRepairer.REPAIR_AWAIT) {
       myHull.life += myRepairer.tryRepair(game, myItemContainer, myHull.life, myHull.config);
@@ -261,6 +260,7 @@ public class SolShip implements SolObject {
   @Override
   public void onRemove(SolGame game) {
     if (myHull.life <= 0) {
+      game.getSaveJournal().shipDestroyed(myPilot);
       game.getShardBuilder().buildExplosionShards(game, myHull.getPos(), myHull.getSpd(), myHull.config.getSize());
       throwAllLoot(game);
     }
@@ -284,7 +284,7 @@ public class SolShip implements SolObject {
     }
 
     if (myTradeContainer != null) {
-      for (List<SolItem> group : myTradeContainer.getItems()) {
+      for (List<SolItem> group : myTradeContainer.getItems(game)) {
         for (SolItem item : group) {
           if (SolMath.test(.6f)) {
             throwLoot(game, item, true);
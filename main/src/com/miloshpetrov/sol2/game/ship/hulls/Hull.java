@@ -156,6 +156,7 @@ public class Hull {
       dras.addAll(dras1);
       game.getDraMan().addAll(dras1);
     }
+    game.getObjMan().markRadiusDirty(ship);
   }
 
   public float getAngle() {
@@ -0,0 +1,75 @@
+package com.miloshpetrov.sol2.game.sound;
+
+/**
+ * End times of the looped sounds an object is currently playing. Objects rarely play more than a few looped sounds,
+ * so the slots are searched linearly.
+ */
+public class LoopSlots {
+  private SolSound[] mySounds;
+  private float[] myEndTimes;
+  private int mySize;
+
+  public LoopSlots() {
+    mySounds = new SolSound[4];
+    myEndTimes = new float[4];
+  }
+
+  public boolean isPlaying(SolSound sound, float time) {
+    for (int i = 0; i < mySize; i++) {
+      if (mySounds[i] == sound) return time < myEndTimes[i];
+    }
+    return false;
+  }
+
+  /**
+   * marks the sound as playing until time + loopTime, call it when a voice of the sound actually starts
+   */
+  public void setPlaying(SolSound sound, float time) {
+    setPlaying(sound, time, sound.loopTime);
+  }
+
+  /**
+   * marks the sound as playing until time + duration, so it is not requested again before that
+   */
+  public void setPlaying(SolSound sound, float time, float duration) {
+    for (int i = 0; i < mySize; i++) {
+      if (mySounds[i] != sound) continue;
+      myEndTimes[i] = time + duration;
+      return;
+    }
+    if (mySize == mySounds.length) grow();
+    mySounds[mySize] = sound;
+    myEndTimes[mySize] = time + duration;
+    mySize++;
+  }
+
+  /**
+   * call it when the voice of the sound is stopped before its end, so the sound is requested again
+   */
+  public void stopPlaying(SolSound sound) {
+    for (int i = 0; i < mySize; i++) {
+      if (mySounds[i] != sound) continue;
+      mySize--;
+      mySounds[i] = mySounds[mySize];
+      myEndTimes[i] = myEndTimes[mySize];
+      mySounds[mySize] = null;
+      return;
+    }
+  }
+
+  private void grow() {
+    SolSound[] sounds = new SolSound[mySize * 2];
+    float[] endTimes = new float[mySize * 2];
+    System.arraycopy(mySounds, 0, sounds, 0, mySize);
+    System.arraycopy(myEndTimes, 0, endTimes, 0, mySize);
+    mySounds = sounds;
+    myEndTimes = endTimes;
+  }
+
+  public void clear() {
+    for (int i = 0; i < mySize; i++) {
+      mySounds[i] = null;
+    }
+    mySize = 0;
+  }
+}
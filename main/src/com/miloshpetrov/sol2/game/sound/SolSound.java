@@ -1,12 +1,12 @@
 package com.miloshpetrov.sol2.game.sound;
 
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class SolSound {
-  public final List<Sound> sounds;
+  public final List<FileHandle> files;
   public final String dir;
   public final String definedBy;
   public final float loopTime;
@@ -15,13 +15,13 @@ public class SolSound {
   public final boolean emptyDir;
 
   public SolSound(String dir, String definedBy, float loopTime, float baseVolume, float basePitch,
-    ArrayList<Sound> sounds, boolean emptyDir)
+    ArrayList<FileHandle> files, boolean emptyDir)
   {
     this.dir = dir;
     this.definedBy = definedBy;
     this.loopTime = loopTime;
     this.baseVolume = baseVolume;
-    this.sounds = sounds;
+    this.files = files;
     this.basePitch = basePitch;
     this.emptyDir = emptyDir;
   }
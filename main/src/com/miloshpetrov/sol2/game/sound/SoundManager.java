@@ -4,30 +4,56 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
 import com.miloshpetrov.sol2.Const;
 import com.miloshpetrov.sol2.common.Nullable;
 import com.miloshpetrov.sol2.common.SolMath;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.*;
+import com.miloshpetrov.sol2.game.gun.GunItem;
+import com.miloshpetrov.sol2.game.item.EngineItem;
 import com.miloshpetrov.sol2.game.planet.Planet;
+import com.miloshpetrov.sol2.game.ship.FarShip;
 import com.miloshpetrov.sol2.game.ship.SolShip;
 import com.miloshpetrov.sol2.IniReader;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 public class SoundManager {
   public static final String DIR = "res/sounds/";
+  // bytes of decoded 16 bit pcm, the stock sounds take about 4 MB this way, so the rarely played ones get evicted
+  private static final long MAX_DECODED_SIZE = 2 * 1024 * 1024;
+  // decoded to source size ratio for files whose headers can't be read
+  private static final int COMPRESSION_RATIO = 4;
+  private static final int PREFETCH_PER_UPDATE = 1;
+  private static final int MAX_PREFETCH_QUEUE = 32;
+  private static final byte[] OGG_PAGE = {'O', 'g', 'g', 'S'};
+  // first page header, the largest segment table and the vorbis identification header
+  private static final int OGG_HEADER_SZ = 27 + 255 + 30;
 
   private final HashMap<String, SolSound> mySounds;
   private final DebugHintDrawer myHintDrawer;
-  private final Map<SolObject, Map<SolSound, Float>> myLoopedSounds;
+  private final IdentityHashMap<SolObject, LoopSlots> myLoopedSounds;
+  private final List<LoopSlots> myLoopSlotsPool;
+  private final LinkedHashMap<String, DecodedSound> myDecoded;
+  private final ArrayDeque<FileHandle> myPrefetchQueue;
+  private final HashSet<String> myPrefetchQueued;
+  private final SoundMixer myMixer;
 
-  private float myLoopAwait;
+  private long myDecodedSize;
 
   public SoundManager() {
     mySounds = new HashMap<String, SolSound>();
     myHintDrawer = new DebugHintDrawer();
-    myLoopedSounds = new HashMap<SolObject, Map<SolSound, Float>>();
+    myLoopedSounds = new IdentityHashMap<SolObject, LoopSlots>();
+    myLoopSlotsPool = new ArrayList<LoopSlots>();
+    myDecoded = new LinkedHashMap<String, DecodedSound>(16, .75f, true);
+    myPrefetchQueue = new ArrayDeque<FileHandle>();
+    myPrefetchQueued = new HashSet<String>();
+    myMixer = new SoundMixer();
   }
 
   public SolSound getLoopedSound(String relPath, @Nullable FileHandle configFile) {
@@ -55,11 +81,10 @@ public class SoundManager {
     float[] params = loadSoundParams(paramsPath);
     float loopTime = params[1];
     float baseVolume = params[0];
-    ArrayList<Sound> sounds = new ArrayList<Sound>();
-    boolean[] emptyDirArr = {false};
-    fillSounds(sounds, dir, emptyDirArr);
-    boolean emptyDir = emptyDirArr[0];
-    res = new SolSound(dir.toString(), definedBy, loopTime, baseVolume, basePitch, sounds, emptyDir);
+    ArrayList<FileHandle> files = new ArrayList<FileHandle>();
+    fillSounds(files, dir);
+    boolean emptyDir = files.isEmpty();
+    res = new SolSound(dir.toString(), definedBy, loopTime, baseVolume, basePitch, files, emptyDir);
     mySounds.put(key, res);
     if (!emptyDir && looped && loopTime == 0) throw new AssertionError("please specify loopTime value in " + paramsPath);
     if (emptyDir) {
@@ -80,24 +105,143 @@ public class SoundManager {
     return r;
   }
 
-  private void fillSounds(List<Sound> list, FileHandle dir, boolean[] emptyDir) {
-    emptyDir[0] = true;
+  /**
+   * only collects the files, decoding happens on the first play or prefetch
+   */
+  private void fillSounds(List<FileHandle> list, FileHandle dir) {
     //try empty dirs
     //if (!dir.isDirectory()) throw new AssertionError("Can't load sound: can't find directory " + dir);
     for (FileHandle soundFile : dir.list()) {
       String ext = soundFile.extension();
       if (ext.equals("wav") || ext.equals("mp3") || ext.equals("ogg")) //filter by supported audio files
       {
-        emptyDir[0] = false;
-        if (DebugOptions.NO_SOUND) return;
-        Sound sound = Gdx.audio.newSound(soundFile);
-        list.add(sound);
+        list.add(soundFile);
       }
     }
   }
 
+  @Nullable
+  private Sound getDecoded(FileHandle file) {
+    if (DebugOptions.NO_SOUND) return null;
+    String key = file.path();
+    DecodedSound ds = myDecoded.get(key);
+    if (ds != null) return ds.sound;
+    ds = new DecodedSound(Gdx.audio.newSound(file), decodedSize(file));
+    myDecoded.put(key, ds);
+    myDecodedSize += ds.size;
+    trimDecoded(ds);
+    return ds.sound;
+  }
+
+  /**
+   * disposes the least recently used sounds until the limit is met. Sounds the mixer still holds are kept, as well as
+   * the one just requested, even if they alone exceed the limit
+   */
+  private void trimDecoded(DecodedSound requested) {
+    Iterator<DecodedSound> it = myDecoded.values().iterator();
+    while (MAX_DECODED_SIZE < myDecodedSize && it.hasNext()) {
+      DecodedSound ds = it.next();
+      if (ds == requested || myMixer.uses(ds.sound)) continue;
+      it.remove();
+      myDecodedSize -= ds.size;
+      ds.sound.dispose();
+    }
+  }
+
+  /**
+   * @return estimated size of the decoded pcm buffer. For ogg files it is the file length played at the nominal
+   * bitrate from the vorbis identification header, only the first page is read for that
+   */
+  private static long decodedSize(FileHandle file) {
+    long length = file.length();
+    if (!file.extension().equals("ogg")) return length * COMPRESSION_RATIO;
+    byte[] bytes = new byte[OGG_HEADER_SZ];
+    int read = readHeader(file, bytes);
+    if (read < 27 || !startsWith(bytes, OGG_PAGE)) return length * COMPRESSION_RATIO;
+    // the identification header follows the segment table of the first page
+    int idHeader = 27 + (bytes[26] & 0xff);
+    if (read < idHeader + 24) return length * COMPRESSION_RATIO;
+    int channels = bytes[idHeader + 11] & 0xff;
+    long rate = readIntLe(bytes, idHeader + 12);
+    long bitrate = readIntLe(bytes, idHeader + 20);
+    if (channels == 0 || rate <= 0 || bitrate <= 0) return length * COMPRESSION_RATIO;
+    return length * 8 * rate * channels * 2 / bitrate;
+  }
+
+  private static int readHeader(FileHandle file, byte[] bytes) {
+    InputStream is = null;
+    try {
+      is = file.read();
+      int read = 0;
+      while (read < bytes.length) {
+        int n = is.read(bytes, read, bytes.length - read);
+        if (n < 0) break;
+        read += n;
+      }
+      return read;
+    } catch (IOException e) {
+      return 0;
+    } catch (GdxRuntimeException e) {
+      return 0;
+    } finally {
+      StreamUtils.closeQuietly(is);
+    }
+  }
+
+  private static boolean startsWith(byte[] bytes, byte[] prefix) {
+    for (int i = 0; i < prefix.length; i++) {
+      if (bytes[i] != prefix[i]) return false;
+    }
+    return true;
+  }
+
+  private static long readIntLe(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8 | (bytes[offset + 2] & 0xff) << 16
+      | (long) bytes[offset + 3] << 24;
+  }
+
+  /**
+   * queues decoding of the sound files so that the first play does not stall the frame
+   */
+  public void prefetch(@Nullable SolSound sound) {
+    if (sound == null || DebugOptions.NO_SOUND) return;
+    for (int i = 0, sz = sound.files.size(); i < sz; i++) {
+      FileHandle file = sound.files.get(i);
+      String path = file.path();
+      if (myDecoded.containsKey(path) || myPrefetchQueued.contains(path)) continue;
+      // far ships keep coming into the near ring, the ones that don't fit will decode on their first play
+      if (myPrefetchQueue.size() >= MAX_PREFETCH_QUEUE) return;
+      myPrefetchQueue.add(file);
+      myPrefetchQueued.add(path);
+    }
+  }
+
+  /**
+   * prefetches the sounds a ship is likely to make right after it enters the near ring
+   */
+  public void prefetch(FarShip ship) {
+    for (int i = 0; i < 2; i++) {
+      GunItem gun = ship.getGun(i == 1);
+      if (gun == null) continue;
+      prefetch(gun.config.shootSound);
+      prefetch(gun.config.reloadSound);
+      prefetch(gun.config.clipConf.projConfig.collisionSound);
+    }
+    EngineItem engine = ship.getEngine();
+    if (engine != null) prefetch(engine.getWorkSound());
+  }
+
+  private void updatePrefetch() {
+    for (int i = 0; i < PREFETCH_PER_UPDATE && !myPrefetchQueue.isEmpty(); i++) {
+      FileHandle file = myPrefetchQueue.poll();
+      myPrefetchQueued.remove(file.path());
+      getDecoded(file);
+    }
+  }
+
   /**
    * Plays a sound. Either pos or source must not be null.
+   * The sound is passed to the mixer and actually starts in the next {@link #update(SolGame)}, if it is loud enough
    * @param pos position of a sound. If null, source.getPos() will be used
    * @param source bearer of a sound. Must not be null for looped sounds
    * @param volMul multiplier for sound volume
@@ -131,13 +275,18 @@ public class SoundManager {
     //pitch
     float pitch = SolMath.rnd(.97f, 1.03f) * game.getTimeFactor() * sound.basePitch;
 
-    if (skipLooped(source, sound, game.getTime())) return;
+    LoopSlots slots = null;
+    if (sound.loopTime > 0) {
+      slots = getLoopSlots(source);
+      if (slots.isPlaying(sound, game.getTime())) return;
+    }
     if (DebugOptions.SOUND_INFO) {
       myHintDrawer.add(source, pos, sound.getDebugString());
     }
-    if (sound.sounds.isEmpty()) return;
-    Sound sound0 = SolMath.elemRnd(sound.sounds);
-    sound0.play(vol, pitch, 0);
+    if (sound.files.isEmpty()) return;
+    Sound sound0 = getDecoded(SolMath.elemRnd(sound.files));
+    if (sound0 == null) return;
+    myMixer.add(sound, sound0, vol, pitch, slots);
   }
 
 /**
@@ -149,24 +298,24 @@ public class SoundManager {
     this.play(game, sound, pos, source, 1f);
   }
 
-  private boolean skipLooped(SolObject source, SolSound sound, float time) {
-    if (sound.loopTime == 0) return false;
-    boolean playing;
-    Map<SolSound, Float> looped = myLoopedSounds.get(source);
-    if (looped == null) {
-      looped = new HashMap<SolSound, Float>();
-      myLoopedSounds.put(source, looped);
-      playing = false;
-    } else {
-      Float endTime = looped.get(sound);
-      if (endTime == null || endTime <= time) {
-        looped.put(sound, time + sound.loopTime); // argh, performance loss
-        playing = false;
-      } else {
-        playing = time < endTime;
-      }
+  private LoopSlots getLoopSlots(SolObject source) {
+    LoopSlots slots = myLoopedSounds.get(source);
+    if (slots == null) {
+      slots = myLoopSlotsPool.isEmpty() ? new LoopSlots() : myLoopSlotsPool.remove(myLoopSlotsPool.size() - 1);
+      myLoopedSounds.put(source, slots);
     }
-    return playing;
+    return slots;
+  }
+
+  /**
+   * called by the object manager when an object is removed, frees the looped sound slots of the object
+   */
+  public void objRemoved(SolObject o) {
+    LoopSlots slots = myLoopedSounds.remove(o);
+    if (slots == null) return;
+    myMixer.forget(slots);
+    slots.clear();
+    myLoopSlotsPool.add(slots);
   }
 
   public void drawDebug(GameDrawer drawer, SolGame game) {
@@ -175,26 +324,29 @@ public class SoundManager {
 
   public void update(SolGame game) {
     if (DebugOptions.SOUND_INFO) myHintDrawer.update(game);
-    myLoopAwait -= game.getTimeStep();
-    if (myLoopAwait <= 0) {
-      myLoopAwait = 30;
-      cleanLooped(game);
-    }
+    myMixer.flush(game.getTime());
+    updatePrefetch();
   }
 
-  private void cleanLooped(SolGame game) {
-    Iterator<SolObject> it = myLoopedSounds.keySet().iterator();
-    while (it.hasNext()) {
-      SolObject o = it.next();
-      if (o.shouldBeRemoved(game)) it.remove();
+  public void dispose() {
+    for (DecodedSound ds : myDecoded.values()) {
+      ds.sound.dispose();
     }
+    myDecoded.clear();
+    myDecodedSize = 0;
+    myPrefetchQueue.clear();
+    myPrefetchQueued.clear();
+    myMixer.clear();
+    myLoopedSounds.clear();
   }
 
-  public void dispose() {
-    for (SolSound ss : mySounds.values()) {
-      for (Sound s : ss.sounds) {
-        s.dispose();
-      }
+  private static class DecodedSound {
+    public final Sound sound;
+    public final long size;
+
+    public DecodedSound(Sound sound, long size) {
+      this.sound = sound;
+      this.size = size;
     }
   }
 }
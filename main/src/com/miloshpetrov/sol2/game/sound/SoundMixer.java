@@ -0,0 +1,164 @@
+package com.miloshpetrov.sol2.game.sound;
+
+import com.badlogic.gdx.audio.Sound;
+import com.miloshpetrov.sol2.common.Nullable;
+
+import java.util.*;
+
+/**
+ * Collects the play requests of a frame and starts only the loudest of them.
+ * Requests of the same SolSound within a frame are merged into one voice, the number of voices is limited
+ * globally and per SolSound. Looped sounds are marked playing in the {@link LoopSlots} of their sources only when their
+ * voice starts. A rejected loop is requested again after LOOP_RETRY_TIME, a stolen one right in the next frame.
+ */
+public class SoundMixer {
+  public static final int MAX_VOICES = 16;
+  public static final int MAX_VOICES_PER_SOUND = 3;
+  // sounds give no completion callback, so a voice is considered busy for this long
+  private static final float VOICE_TIME = .4f;
+  private static final float LOOP_RETRY_TIME = .5f;
+
+  private final Map<SolSound, Voice> myPending;
+  private final List<Voice> myPendingList;
+  private final List<Voice> myActive;
+  private final List<Voice> myPool;
+  private final Comparator<Voice> myLouderFirst;
+
+  public SoundMixer() {
+    myPending = new HashMap<SolSound, Voice>();
+    myPendingList = new ArrayList<Voice>();
+    myActive = new ArrayList<Voice>();
+    myPool = new ArrayList<Voice>();
+    myLouderFirst = new Comparator<Voice>() {
+      @Override
+      public int compare(Voice v1, Voice v2) {
+        return Float.compare(v2.vol, v1.vol);
+      }
+    };
+  }
+
+  /**
+   * @param slots loop slots of the source of a looped sound, null for other sounds
+   */
+  public void add(SolSound solSound, Sound sound, float vol, float pitch, @Nullable LoopSlots slots) {
+    if (vol > 1) vol = 1;
+    Voice v = myPending.get(solSound);
+    if (v != null) {
+      // same frame duplicate: play once, but louder
+      v.vol = 1 - (1 - v.vol) * (1 - vol);
+      if (slots != null) v.loopSlots.add(slots);
+      return;
+    }
+    v = myPool.isEmpty() ? new Voice() : myPool.remove(myPool.size() - 1);
+    v.solSound = solSound;
+    v.sound = sound;
+    v.vol = vol;
+    v.pitch = pitch;
+    if (slots != null) v.loopSlots.add(slots);
+    myPending.put(solSound, v);
+    myPendingList.add(v);
+  }
+
+  public void flush(float time) {
+    for (int i = myActive.size() - 1; i >= 0; i--) {
+      Voice v = myActive.get(i);
+      if (v.endTime <= time) free(myActive.remove(i));
+    }
+    Collections.sort(myPendingList, myLouderFirst);
+    for (int i = 0, sz = myPendingList.size(); i < sz; i++) {
+      Voice v = myPendingList.get(i);
+      boolean started = start(v, time);
+      for (int j = 0, slotsSz = v.loopSlots.size(); j < slotsSz; j++) {
+        LoopSlots slots = v.loopSlots.get(j);
+        if (started) slots.setPlaying(v.solSound, time);
+        else slots.setPlaying(v.solSound, time, LOOP_RETRY_TIME);
+      }
+      if (started) myActive.add(v);
+      else free(v);
+    }
+    myPendingList.clear();
+    myPending.clear();
+  }
+
+  private boolean start(Voice v, float time) {
+    if (MAX_VOICES_PER_SOUND <= countActive(v.solSound)) return false;
+    if (MAX_VOICES <= myActive.size()) {
+      int quietest = findQuietest();
+      Voice q = myActive.get(quietest);
+      if (v.vol <= q.vol) return false;
+      q.sound.stop(q.id);
+      for (int i = 0, sz = q.loopSlots.size(); i < sz; i++) {
+        q.loopSlots.get(i).stopPlaying(q.solSound);
+      }
+      free(myActive.remove(quietest));
+    }
+    v.id = v.sound.play(v.vol, v.pitch, 0);
+    float duration = v.solSound.loopTime > 0 ? v.solSound.loopTime : VOICE_TIME;
+    v.endTime = time + duration;
+    return true;
+  }
+
+  /**
+   * drops the loop slots of a removed object from the pending and playing voices
+   */
+  public void forget(LoopSlots slots) {
+    for (int i = 0, sz = myPendingList.size(); i < sz; i++) {
+      myPendingList.get(i).loopSlots.remove(slots);
+    }
+    for (int i = 0, sz = myActive.size(); i < sz; i++) {
+      myActive.get(i).loopSlots.remove(slots);
+    }
+  }
+
+  /**
+   * @return true if a pending or playing voice holds the sound, such sound must not be disposed
+   */
+  public boolean uses(Sound sound) {
+    for (int i = 0, sz = myPendingList.size(); i < sz; i++) {
+      if (myPendingList.get(i).sound == sound) return true;
+    }
+    for (int i = 0, sz = myActive.size(); i < sz; i++) {
+      if (myActive.get(i).sound == sound) return true;
+    }
+    return false;
+  }
+
+  private int countActive(SolSound solSound) {
+    int res = 0;
+    for (int i = 0, sz = myActive.size(); i < sz; i++) {
+      if (myActive.get(i).solSound == solSound) res++;
+    }
+    return res;
+  }
+
+  private int findQuietest() {
+    int res = 0;
+    for (int i = 1, sz = myActive.size(); i < sz; i++) {
+      if (myActive.get(i).vol < myActive.get(res).vol) res = i;
+    }
+    return res;
+  }
+
+  private void free(Voice v) {
+    v.solSound = null;
+    v.sound = null;
+    v.loopSlots.clear();
+    myPool.add(v);
+  }
+
+  public void clear() {
+    myActive.clear();
+    myPendingList.clear();
+    myPending.clear();
+  }
+
+  private static class Voice {
+    public SolSound solSound;
+    public Sound sound;
+    public float vol;
+    public float pitch;
+    public long id;
+    public float endTime;
+    public final List<LoopSlots> loopSlots = new ArrayList<LoopSlots>();
+  }
+}
@@ -2,9 +2,9 @@ package com.miloshpetrov.sol2.game.sound;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.miloshpetrov.sol2.Const;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.files.FileManager;
 import com.miloshpetrov.sol2.game.*;
 
@@ -31,9 +31,8 @@ public class SpecialSounds {
   public final SolSound transcendentMove;
 
   public SpecialSounds(SoundManager soundManager) {
-    JsonReader r = new JsonReader();
     FileHandle configFile = FileManager.getInstance().getConfigDirectory().child("specialSounds.json");
-    JsonValue node = r.parse(configFile);
+    JsonValue node = ConfigBundle.getInstance().parse(configFile);
     metalColl = soundManager.getSound(node.getString("metalCollision"), configFile);
     metalBulletHit = soundManager.getPitchedSound(node.getString("metalBulletHit"), configFile, 1.1f);
     metalEnergyHit = soundManager.getSound(node.getString("metalEnergyHit"), configFile);
@@ -2,6 +2,7 @@ package com.miloshpetrov.sol2.menu;
 
 import com.miloshpetrov.sol2.SolApplication;
 import com.miloshpetrov.sol2.common.SolColor;
+import com.miloshpetrov.sol2.files.ConfigBundle;
 import com.miloshpetrov.sol2.ui.*;
 
 import java.util.ArrayList;
@@ -11,6 +12,9 @@ public class LoadingScreen implements SolUiScreen {
   private final ArrayList<SolUiControl> myControls;
   private boolean myTut;
   private boolean myUsePrevShip;
+  private boolean myPrefetchStarted;
+  private boolean myCreating;
+  private float myProgress;
 
   public LoadingScreen() {
     myControls = new ArrayList<SolUiControl>();
@@ -27,7 +31,22 @@ public class LoadingScreen implements SolUiScreen {
 
   @Override
   public void updateCustom(SolApplication cmp, SolInputManager.Ptr[] ptrs, boolean clickedOutside) {
-    cmp.startNewGame(myTut, myUsePrevShip);
+    if (myCreating) {
+      // the game itself is still created in one go on this thread, so there is no progress to show for it
+      myCreating = false;
+      myPrefetchStarted = false;
+      cmp.startNewGame(myTut, myUsePrevShip);
+      return;
+    }
+    ConfigBundle bundle = ConfigBundle.getInstance();
+    if (!myPrefetchStarted) {
+      // configs are parsed on worker threads while this screen keeps drawing the progress
+      bundle.prefetch();
+      myPrefetchStarted = true;
+    }
+    myProgress = bundle.getPrefetchProgress();
+    // draw one frame with the creating message before the render thread gets busy
+    if (myProgress >= 1) myCreating = true;
   }
 
   @Override
@@ -49,7 +68,8 @@ public class LoadingScreen implements SolUiScreen {
 
   @Override
   public void drawText(UiDrawer uiDrawer, SolApplication cmp) {
-    uiDrawer.drawString("Loading...", uiDrawer.r/2, .5f, FontSize.MENU, true, SolColor.W);
+    String text = myCreating ? "Creating the game..." : "Reading configs... " + (int) (myProgress * 100) + "%";
+    uiDrawer.drawString(text, uiDrawer.r/2, .5f, FontSize.MENU, true, SolColor.W);
   }
 
   @Override
@@ -60,5 +80,7 @@ public class LoadingScreen implements SolUiScreen {
   public void setMode(boolean tut, boolean usePrevShip) {
     myTut = tut;
     myUsePrevShip = usePrevShip;
+    myProgress = 0;
+    myCreating = false;
   }
 }
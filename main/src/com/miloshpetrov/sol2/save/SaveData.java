@@ -1,20 +1,287 @@
 package com.miloshpetrov.sol2.save;
 
-import com.miloshpetrov.sol2.game.FarObj;
-import com.miloshpetrov.sol2.game.planet.Planet;
-import com.miloshpetrov.sol2.game.planet.SolSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.miloshpetrov.sol2.common.Nullable;
+import com.miloshpetrov.sol2.files.HullConfigManager;
+import com.miloshpetrov.sol2.game.*;
+import com.miloshpetrov.sol2.game.input.*;
+import com.miloshpetrov.sol2.game.item.*;
+import com.miloshpetrov.sol2.game.maze.Maze;
+import com.miloshpetrov.sol2.game.maze.MazeConfigs;
+import com.miloshpetrov.sol2.game.planet.*;
+import com.miloshpetrov.sol2.game.ship.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
+/**
+ * Immutable snapshot of the galaxy. It holds only names, codes and numbers, never live game objects, so it can be
+ * written from any thread once captured.
+ */
 public class SaveData {
-  public final List<FarObj> farObjs;
-  public final List<SolSystem> systems;
-  public final List<Planet> planets;
-
-  public SaveData() {
-    farObjs = new ArrayList<FarObj>();
-    planets = new ArrayList<Planet>();
-    systems = new ArrayList<SolSystem>();
+  // guard target of the ships which guard the hero, the hero is not in ships
+  public static final int HERO_TARGET = -2;
+
+  public final float time;
+  public final List<SysData> systems;
+  public final List<BeltData> belts;
+  public final List<PlanetData> planets;
+  public final List<MazeData> mazes;
+  public final List<ShipData> ships;
+  @Nullable public final ShipData hero;
+
+  public SaveData(float time, List<SysData> systems, List<BeltData> belts, List<PlanetData> planets,
+    List<MazeData> mazes, List<ShipData> ships, @Nullable ShipData hero)
+  {
+    this.time = time;
+    this.systems = Collections.unmodifiableList(systems);
+    this.belts = Collections.unmodifiableList(belts);
+    this.planets = Collections.unmodifiableList(planets);
+    this.mazes = Collections.unmodifiableList(mazes);
+    this.ships = Collections.unmodifiableList(ships);
+    this.hero = hero;
+  }
+
+  /**
+   * must be called on the game thread
+   * @param shipIdxsOut if not null, receives the index in {@link #ships} of each captured ship, keyed by its pilot
+   */
+  public static SaveData capture(SolGame game, @Nullable Map<Pilot, Integer> shipIdxsOut) {
+    PlanetManager pm = game.getPlanetMan();
+    List<SolSystem> systems = pm.getSystems();
+    ArrayList<SysData> sysDatas = new ArrayList<SysData>();
+    ArrayList<BeltData> beltDatas = new ArrayList<BeltData>();
+    for (int i = 0, sz = systems.size(); i < sz; i++) {
+      SolSystem s = systems.get(i);
+      sysDatas.add(new SysData(s.getPos().x, s.getPos().y, s.getConfig().name, s.getName(), s.getRadius()));
+      for (SystemBelt b : s.getBelts()) {
+        beltDatas.add(new BeltData(i, b.getHalfWidth(), b.getRadius(), b.getConfig().name));
+      }
+    }
+
+    ArrayList<PlanetData> planetDatas = new ArrayList<PlanetData>();
+    for (Planet p : pm.getPlanets()) {
+      float gh = p.getGroundHeight();
+      planetDatas.add(new PlanetData(systems.indexOf(p.getSys()), p.getAngleToSys(), p.getDist(), p.getAngle(),
+        p.getToSysRotSpd(), p.getRotSpd(), gh, p.getGravConst() / gh / gh, p.isObjsCreated(), p.getConfig().configName,
+        p.getName()));
+    }
+
+    ArrayList<MazeData> mazeDatas = new ArrayList<MazeData>();
+    MazeConfigs mazeConfigs = pm.getMazeConfigs();
+    for (Maze m : pm.getMazes()) {
+      mazeDatas.add(new MazeData(mazeConfigs.configs.indexOf(m.getConfig()), m.getPos().x, m.getPos().y, m.getRadius(),
+        m.isObjsCreated()));
+    }
+
+    ArrayList<FarShip> farShips = new ArrayList<FarShip>(game.getObjMan().getFarShips());
+    for (SolObject o : game.getObjMan().getObjs()) {
+      if (o instanceof SolShip) farShips.add(((SolShip) o).toFarObj());
+    }
+    IdentityHashMap<Pilot, Integer> shipIdxs = new IdentityHashMap<Pilot, Integer>();
+    ArrayList<FarShip> toSave = new ArrayList<FarShip>();
+    FarShip heroShip = null;
+    for (FarShip fs : farShips) {
+      PilotType pt = getPilotType(fs.getPilot());
+      if (pt == PilotType.NONE) continue;
+      if (pt == PilotType.PLAYER) {
+        heroShip = fs;
+        continue;
+      }
+      shipIdxs.put(fs.getPilot(), toSave.size());
+      toSave.add(fs);
+    }
+    ArrayList<ShipData> shipDatas = new ArrayList<ShipData>();
+    for (FarShip fs : toSave) {
+      shipDatas.add(captureShip(game, fs, systems, shipIdxs));
+    }
+    ShipData hero = heroShip == null ? null : captureShip(game, heroShip, systems, shipIdxs);
+    if (shipIdxsOut != null) shipIdxsOut.putAll(shipIdxs);
+    return new SaveData(game.getTime(), sysDatas, beltDatas, planetDatas, mazeDatas, shipDatas, hero);
+  }
+
+  private static ShipData captureShip(SolGame game, FarShip fs, List<SolSystem> systems,
+    IdentityHashMap<Pilot, Integer> shipIdxs)
+  {
+    Pilot pilot = fs.getPilot();
+    PilotType pilotType = getPilotType(pilot);
+    int sysIdx = -1;
+    int guardTarget = -1;
+    float guardAngle = 0;
+    if (pilotType == PilotType.EXPLORER) {
+      sysIdx = systems.indexOf(((ExplorerDestProvider) ((AiPilot) pilot).getDestProvider()).getSys());
+    } else if (pilotType == PilotType.GUARD) {
+      Guardian g = (Guardian) ((AiPilot) pilot).getDestProvider();
+      Pilot targetPilot = g.getTargetPilot();
+      Integer target = shipIdxs.get(targetPilot);
+      if (target != null) guardTarget = target;
+      else if (targetPilot.isPlayer()) guardTarget = HERO_TARGET;
+      guardAngle = g.getRelAngle();
+    }
+
+    int tradeSysIdx = -1;
+    String stock = null;
+    float restockTime = 0;
+    TradeContainer tc = fs.getTradeContainer();
+    if (tc != null) {
+      for (int i = 0, sz = systems.size(); i < sz; i++) {
+        if (systems.get(i).getConfig().tradeConfig == tc.getConfig()) tradeSysIdx = i;
+      }
+      ItemContainer stockIc = tc.getStock();
+      if (stockIc != null) {
+        stock = itemsToString(stockIc);
+        restockTime = tc.getRestockTime();
+      }
+    }
+
+    HullConfigManager hullConfigs = game.getHullConfigs();
+    Vector2 pos = fs.getPos();
+    Vector2 spd = fs.getSpd();
+    return new ShipData(hullConfigs.getName(fs.getHullConfig()), pos.x, pos.y, spd.x, spd.y, fs.getAngle(),
+      fs.getLife(), fs.getMoney(), itemsToString(fs.getIc()), pilotType, pilot.getFraction(), sysIdx, guardTarget,
+      guardAngle, tradeSysIdx, stock, restockTime);
+  }
+
+  private static PilotType getPilotType(Pilot pilot) {
+    if (pilot.isPlayer()) return PilotType.PLAYER;
+    if (!(pilot instanceof AiPilot)) return PilotType.NONE;
+    MoveDestProvider dp = ((AiPilot) pilot).getDestProvider();
+    if (dp instanceof NoDestProvider) return PilotType.STATION;
+    if (dp instanceof ExplorerDestProvider) return PilotType.EXPLORER;
+    if (dp instanceof Guardian) return PilotType.GUARD;
+    // planet and maze ships are recreated together with the planet or maze objects
+    return PilotType.NONE;
+  }
+
+  static String itemsToString(ItemContainer ic) {
+    StringBuilder sb = new StringBuilder();
+    for (List<SolItem> group : ic) {
+      for (SolItem i : group) {
+        sb.append(i.getCode()).append(" ");
+      }
+    }
+    return sb.toString();
+  }
+
+  public static class SysData {
+    public final float x;
+    public final float y;
+    public final String configName;
+    public final String name;
+    public final float radius;
+
+    public SysData(float x, float y, String configName, String name, float radius) {
+      this.x = x;
+      this.y = y;
+      this.configName = configName;
+      this.name = name;
+      this.radius = radius;
+    }
+  }
+
+  public static class BeltData {
+    public final int sysIdx;
+    public final float halfWidth;
+    public final float radius;
+    public final String configName;
+
+    public BeltData(int sysIdx, float halfWidth, float radius, String configName) {
+      this.sysIdx = sysIdx;
+      this.halfWidth = halfWidth;
+      this.radius = radius;
+      this.configName = configName;
+    }
+  }
+
+  public static class PlanetData {
+    public final int sysIdx;
+    public final float angleToSys;
+    public final float dist;
+    public final float angle;
+    public final float toSysRotSpd;
+    public final float rotSpd;
+    public final float groundHeight;
+    public final float grav;
+    public final boolean objsCreated;
+    public final String configName;
+    public final String name;
+
+    public PlanetData(int sysIdx, float angleToSys, float dist, float angle, float toSysRotSpd, float rotSpd,
+      float groundHeight, float grav, boolean objsCreated, String configName, String name)
+    {
+      this.sysIdx = sysIdx;
+      this.angleToSys = angleToSys;
+      this.dist = dist;
+      this.angle = angle;
+      this.toSysRotSpd = toSysRotSpd;
+      this.rotSpd = rotSpd;
+      this.groundHeight = groundHeight;
+      this.grav = grav;
+      this.objsCreated = objsCreated;
+      this.configName = configName;
+      this.name = name;
+    }
+  }
+
+  public static class MazeData {
+    public final int configIdx;
+    public final float x;
+    public final float y;
+    public final float radius;
+    public final boolean objsCreated;
+
+    public MazeData(int configIdx, float x, float y, float radius, boolean objsCreated) {
+      this.configIdx = configIdx;
+      this.x = x;
+      this.y = y;
+      this.radius = radius;
+      this.objsCreated = objsCreated;
+    }
+  }
+
+  public static enum PilotType {
+    NONE, PLAYER, STATION, EXPLORER, GUARD
+  }
+
+  public static class ShipData {
+    public final String hullName;
+    public final float x;
+    public final float y;
+    public final float spdX;
+    public final float spdY;
+    public final float angle;
+    public final float life;
+    public final float money;
+    public final String items;
+    public final PilotType pilotType;
+    public final Fraction fraction;
+    public final int sysIdx;
+    public final int guardTarget;
+    public final float guardAngle;
+    public final int tradeSysIdx;
+    @Nullable public final String stock;
+    public final float restockTime;
+
+    public ShipData(String hullName, float x, float y, float spdX, float spdY, float angle, float life, float money,
+      String items, PilotType pilotType, Fraction fraction, int sysIdx, int guardTarget, float guardAngle,
+      int tradeSysIdx, @Nullable String stock, float restockTime)
+    {
+      this.hullName = hullName;
+      this.x = x;
+      this.y = y;
+      this.spdX = spdX;
+      this.spdY = spdY;
+      this.angle = angle;
+      this.life = life;
+      this.money = money;
+      this.items = items;
+      this.pilotType = pilotType;
+      this.fraction = fraction;
+      this.sysIdx = sysIdx;
+      this.guardTarget = guardTarget;
+      this.guardAngle = guardAngle;
+      this.tradeSysIdx = tradeSysIdx;
+      this.stock = stock;
+      this.restockTime = restockTime;
+    }
   }
 }
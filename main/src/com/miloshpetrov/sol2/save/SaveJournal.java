@@ -0,0 +1,247 @@
+package com.miloshpetrov.sol2.save;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.miloshpetrov.sol2.game.Fraction;
+import com.miloshpetrov.sol2.game.SolGame;
+import com.miloshpetrov.sol2.game.input.Pilot;
+import com.miloshpetrov.sol2.game.ship.SolShip;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Append-only log of what changed since the last {@link SaveData} snapshot. Entries are collected in memory on the
+ * game thread and appended to the journal file by {@link com.miloshpetrov.sol2.game.SaveManager}. All entries are
+ * idempotent, so replaying a journal over a snapshot which already contains some of them is harmless.
+ * <p/>
+ * The journal only holds changes which can't contradict the snapshot: destroyed ships and the hull, items and money of
+ * the hero. The game time, positions and new ships come from the snapshot, which is rewritten every SNAPSHOT_PERIOD
+ * and right after a ship is spawned.
+ */
+public class SaveJournal {
+  public static final int MAGIC = 0x534f4c4a;
+  // version 1 had the hero position in hero entries
+  public static final int VERSION = 2;
+  // the snapshot is rewritten and the journal truncated after this many entries
+  public static final int MAX_ENTRIES = 256;
+  // game time after which the snapshot is rewritten, so restored positions are never much older than this
+  private static final float SNAPSHOT_PERIOD = 60f;
+  private static final float HERO_CHECK_PERIOD = 1f;
+
+  private static final byte TYPE_SHIP_DESTROYED = 1;
+  private static final byte TYPE_HERO = 2;
+
+  private final ByteArrayOutputStream myBuf;
+  private final DataOutputStream myOut;
+  private final IdentityHashMap<Pilot, Integer> myShipIdxs;
+  // id of the snapshot which is on disk, only the writer thread sets it
+  private volatile int myWrittenSnapshotId;
+  private volatile boolean mySnapshotFailed;
+
+  private int mySnapshotId;
+  private int myEntryCount;
+  private float mySnapshotAge;
+  private boolean myShipSpawned;
+  private float myHeroCheckAwait;
+  private String myHeroHull;
+  private int myHeroRevision;
+  private float myHeroMoney;
+
+  public SaveJournal() {
+    myBuf = new ByteArrayOutputStream();
+    myOut = new DataOutputStream(myBuf);
+    myShipIdxs = new IdentityHashMap<Pilot, Integer>();
+  }
+
+  /**
+   * called when a snapshot is captured, later entries refer to the ship indices of that snapshot
+   */
+  public Map<Pilot, Integer> onSnapshot() {
+    mySnapshotId++;
+    mySnapshotFailed = false;
+    myShipIdxs.clear();
+    myEntryCount = 0;
+    mySnapshotAge = 0;
+    myShipSpawned = false;
+    myHeroHull = null;
+    return myShipIdxs;
+  }
+
+  /**
+   * @return id of the snapshot the entries refer to
+   */
+  public int getSnapshotId() {
+    return mySnapshotId;
+  }
+
+  /**
+   * called by the writer thread once the snapshot is on disk
+   */
+  public void onSnapshotWritten(int snapshotId) {
+    myWrittenSnapshotId = snapshotId;
+  }
+
+  /**
+   * called by the writer thread when the snapshot could not be written. The previous snapshot and its journal stay
+   * on disk, entries of the failed one are dropped until a new snapshot is written
+   */
+  public void onSnapshotFailed() {
+    mySnapshotFailed = true;
+  }
+
+  public boolean isWritten(int snapshotId) {
+    return myWrittenSnapshotId == snapshotId;
+  }
+
+  /**
+   * @return true if the next flush must write a whole snapshot instead of appending to the journal
+   */
+  public boolean needsCompaction() {
+    return mySnapshotFailed || myShipSpawned || MAX_ENTRIES <= myEntryCount || SNAPSHOT_PERIOD <= mySnapshotAge;
+  }
+
+  /**
+   * call when a ship which is saved is added after the galaxy was filled, e.g. a hired mercenary. The journal can't hold
+   * new ships, so the next flush writes a snapshot with it
+   */
+  public void shipSpawned() {
+    myShipSpawned = true;
+  }
+
+  public void update(SolGame game) {
+    mySnapshotAge += game.getTimeStep();
+    myHeroCheckAwait -= game.getTimeStep();
+    if (myHeroCheckAwait > 0) return;
+    myHeroCheckAwait = HERO_CHECK_PERIOD;
+    checkHero(game);
+  }
+
+  /**
+   * writes the hero if its hull, items or money changed since it was last written
+   */
+  private void checkHero(SolGame game) {
+    SolShip hero = game.getHero();
+    if (hero == null) return;
+    String hull = game.getHullConfigs().getName(hero.getHull().config);
+    int revision = hero.getItemContainer().getRevision();
+    float money = hero.getMoney();
+    if (hull.equals(myHeroHull) && revision == myHeroRevision && money == myHeroMoney) return;
+    writeHero(hero, hull, revision, money);
+  }
+
+  private void writeHero(SolShip hero, String hull, int revision, float money) {
+    myHeroHull = hull;
+    myHeroRevision = revision;
+    myHeroMoney = money;
+    try {
+      myOut.writeByte(TYPE_HERO);
+      myOut.writeUTF(hull);
+      myOut.writeFloat(money);
+      SaveSerializer.writeLongString(SaveData.itemsToString(hero.getItemContainer()), myOut);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    myEntryCount++;
+  }
+
+  public void shipDestroyed(Pilot pilot) {
+    Integer idx = myShipIdxs.remove(pilot);
+    if (idx == null) return;
+    try {
+      myOut.writeByte(TYPE_SHIP_DESTROYED);
+      myOut.writeInt(idx);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    myEntryCount++;
+  }
+
+  /**
+   * records the hero state if it changed and hands out the collected entries
+   * @return the bytes to append to the journal file, null if nothing changed
+   */
+  public byte[] takeEntries(SolGame game) {
+    checkHero(game);
+    if (myBuf.size() == 0) return null;
+    byte[] res = myBuf.toByteArray();
+    myBuf.reset();
+    return res;
+  }
+
+  /**
+   * drops the entries which are already part of a snapshot being captured right now
+   */
+  public void discardEntries() {
+    myBuf.reset();
+  }
+
+  public static void append(FileHandle file, byte[] entries) throws IOException {
+    boolean exists = file.exists() && file.length() > 0;
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(true)));
+    try {
+      if (!exists) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+      }
+      out.write(entries);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * @return the snapshot with the journal entries applied
+   */
+  public static SaveData replay(FileHandle file, SaveData save) throws IOException {
+    if (!file.exists()) return save;
+    boolean[] destroyed = new boolean[save.ships.size()];
+    SaveData.ShipData hero = save.hero;
+    DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()));
+    try {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) return save;
+      while (true) {
+        int type = in.read();
+        if (type < 0) break;
+        if (type == TYPE_SHIP_DESTROYED) {
+          int idx = in.readInt();
+          if (0 <= idx && idx < destroyed.length) destroyed[idx] = true;
+        } else if (type == TYPE_HERO) {
+          String hull = in.readUTF();
+          float money = in.readFloat();
+          String items = SaveSerializer.readLongString(in);
+          // without a hero in the snapshot there is no position which fits its world, the ship save is used then
+          if (save.hero == null) continue;
+          // the hero is rebuilt from hull, items and money, the rest only matters for ai ships
+          hero = new SaveData.ShipData(hull, save.hero.x, save.hero.y, 0, 0, 0, 0, money, items,
+            SaveData.PilotType.PLAYER, Fraction.LAANI, -1, -1, 0, -1, null, 0);
+        } else {
+          break;
+        }
+      }
+    } catch (EOFException e) {
+      // the last entry was cut by a crash, everything before it is still valid
+    } finally {
+      in.close();
+    }
+    return apply(save, destroyed, hero);
+  }
+
+  private static SaveData apply(SaveData save, boolean[] destroyed, SaveData.ShipData hero) {
+    int[] newIdxs = new int[destroyed.length];
+    ArrayList<SaveData.ShipData> ships = new ArrayList<SaveData.ShipData>();
+    for (int i = 0; i < destroyed.length; i++) {
+      newIdxs[i] = destroyed[i] ? -1 : ships.size();
+      if (!destroyed[i]) ships.add(save.ships.get(i));
+    }
+    for (int i = 0, sz = ships.size(); i < sz; i++) {
+      SaveData.ShipData sd = ships.get(i);
+      if (sd.guardTarget < 0) continue;
+      ships.set(i, new SaveData.ShipData(sd.hullName, sd.x, sd.y, sd.spdX, sd.spdY, sd.angle, sd.life, sd.money,
+        sd.items, sd.pilotType, sd.fraction, sd.sysIdx, newIdxs[sd.guardTarget], sd.guardAngle, sd.tradeSysIdx,
+        sd.stock, sd.restockTime));
+    }
+    return new SaveData(save.time, new ArrayList<SaveData.SysData>(save.systems),
+      new ArrayList<SaveData.BeltData>(save.belts), new ArrayList<SaveData.PlanetData>(save.planets),
+      new ArrayList<SaveData.MazeData>(save.mazes), ships, hero);
+  }
+}
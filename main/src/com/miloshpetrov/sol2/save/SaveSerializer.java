@@ -0,0 +1,165 @@
+package com.miloshpetrov.sol2.save;
+
+import com.miloshpetrov.sol2.game.Fraction;
+
+import java.io.*;
+import java.util.ArrayList;
+
+/**
+ * Binary format of {@link SaveData}. Bump VERSION on every format change, older snapshots are then ignored.
+ */
+public class SaveSerializer {
+  public static final int MAGIC = 0x534f4c57;
+  public static final int VERSION = 1;
+
+  public static void write(SaveData save, DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeFloat(save.time);
+
+    out.writeInt(save.systems.size());
+    for (SaveData.SysData sd : save.systems) {
+      out.writeFloat(sd.x);
+      out.writeFloat(sd.y);
+      out.writeUTF(sd.configName);
+      out.writeUTF(sd.name);
+      out.writeFloat(sd.radius);
+    }
+
+    out.writeInt(save.belts.size());
+    for (SaveData.BeltData bd : save.belts) {
+      out.writeInt(bd.sysIdx);
+      out.writeFloat(bd.halfWidth);
+      out.writeFloat(bd.radius);
+      out.writeUTF(bd.configName);
+    }
+
+    out.writeInt(save.planets.size());
+    for (SaveData.PlanetData pd : save.planets) {
+      out.writeInt(pd.sysIdx);
+      out.writeFloat(pd.angleToSys);
+      out.writeFloat(pd.dist);
+      out.writeFloat(pd.angle);
+      out.writeFloat(pd.toSysRotSpd);
+      out.writeFloat(pd.rotSpd);
+      out.writeFloat(pd.groundHeight);
+      out.writeFloat(pd.grav);
+      out.writeBoolean(pd.objsCreated);
+      out.writeUTF(pd.configName);
+      out.writeUTF(pd.name);
+    }
+
+    out.writeInt(save.mazes.size());
+    for (SaveData.MazeData md : save.mazes) {
+      out.writeInt(md.configIdx);
+      out.writeFloat(md.x);
+      out.writeFloat(md.y);
+      out.writeFloat(md.radius);
+      out.writeBoolean(md.objsCreated);
+    }
+
+    out.writeInt(save.ships.size());
+    for (SaveData.ShipData sd : save.ships) {
+      writeShip(sd, out);
+    }
+    out.writeBoolean(save.hero != null);
+    if (save.hero != null) writeShip(save.hero, out);
+  }
+
+  private static void writeShip(SaveData.ShipData sd, DataOutputStream out) throws IOException {
+    out.writeUTF(sd.hullName);
+    out.writeFloat(sd.x);
+    out.writeFloat(sd.y);
+    out.writeFloat(sd.spdX);
+    out.writeFloat(sd.spdY);
+    out.writeFloat(sd.angle);
+    out.writeFloat(sd.life);
+    out.writeFloat(sd.money);
+    writeLongString(sd.items, out);
+    out.writeByte(sd.pilotType.ordinal());
+    out.writeByte(sd.fraction.ordinal());
+    out.writeInt(sd.sysIdx);
+    out.writeInt(sd.guardTarget);
+    out.writeFloat(sd.guardAngle);
+    out.writeInt(sd.tradeSysIdx);
+    out.writeBoolean(sd.stock != null);
+    if (sd.stock != null) writeLongString(sd.stock, out);
+    out.writeFloat(sd.restockTime);
+  }
+
+  /**
+   * @return null if the data was written by another version of the game
+   */
+  public static SaveData read(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+    float time = in.readFloat();
+
+    int sysCount = in.readInt();
+    ArrayList<SaveData.SysData> systems = new ArrayList<SaveData.SysData>(sysCount);
+    for (int i = 0; i < sysCount; i++) {
+      systems.add(new SaveData.SysData(in.readFloat(), in.readFloat(), in.readUTF(), in.readUTF(), in.readFloat()));
+    }
+
+    int beltCount = in.readInt();
+    ArrayList<SaveData.BeltData> belts = new ArrayList<SaveData.BeltData>(beltCount);
+    for (int i = 0; i < beltCount; i++) {
+      belts.add(new SaveData.BeltData(in.readInt(), in.readFloat(), in.readFloat(), in.readUTF()));
+    }
+
+    int planetCount = in.readInt();
+    ArrayList<SaveData.PlanetData> planets = new ArrayList<SaveData.PlanetData>(planetCount);
+    for (int i = 0; i < planetCount; i++) {
+      planets.add(new SaveData.PlanetData(in.readInt(), in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat(),
+        in.readFloat(), in.readFloat(), in.readFloat(), in.readBoolean(), in.readUTF(), in.readUTF()));
+    }
+
+    int mazeCount = in.readInt();
+    ArrayList<SaveData.MazeData> mazes = new ArrayList<SaveData.MazeData>(mazeCount);
+    for (int i = 0; i < mazeCount; i++) {
+      mazes.add(new SaveData.MazeData(in.readInt(), in.readFloat(), in.readFloat(), in.readFloat(), in.readBoolean()));
+    }
+
+    int shipCount = in.readInt();
+    ArrayList<SaveData.ShipData> ships = new ArrayList<SaveData.ShipData>(shipCount);
+    for (int i = 0; i < shipCount; i++) {
+      ships.add(readShip(in));
+    }
+    SaveData.ShipData hero = in.readBoolean() ? readShip(in) : null;
+    return new SaveData(time, systems, belts, planets, mazes, ships, hero);
+  }
+
+  private static SaveData.ShipData readShip(DataInputStream in) throws IOException {
+    String hullName = in.readUTF();
+    float x = in.readFloat();
+    float y = in.readFloat();
+    float spdX = in.readFloat();
+    float spdY = in.readFloat();
+    float angle = in.readFloat();
+    float life = in.readFloat();
+    float money = in.readFloat();
+    String items = readLongString(in);
+    SaveData.PilotType pilotType = SaveData.PilotType.values()[in.readByte()];
+    Fraction fraction = Fraction.values()[in.readByte()];
+    int sysIdx = in.readInt();
+    int guardTarget = in.readInt();
+    float guardAngle = in.readFloat();
+    int tradeSysIdx = in.readInt();
+    String stock = in.readBoolean() ? readLongString(in) : null;
+    float restockTime = in.readFloat();
+    return new SaveData.ShipData(hullName, x, y, spdX, spdY, angle, life, money, items, pilotType, fraction, sysIdx,
+      guardTarget, guardAngle, tradeSysIdx, stock, restockTime);
+  }
+
+  // writeUTF is limited to 64k, item lists of big traders can get close
+  static void writeLongString(String s, DataOutputStream out) throws IOException {
+    byte[] bytes = s.getBytes("UTF-8");
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readLongString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, "UTF-8");
+  }
+}